@@ -0,0 +1,330 @@
+package com.xyzbank.app.metrics;
+
+import com.xyzbank.app.utils.PropertiesLoader;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Records wall time, explicit-wait time and WebDriver command count for every instrumented
+ * page action, keyed by test, page class and action. At JVM exit the series are written to
+ * metrics.export.dir (default target/metrics) as action-metrics.json and action-metrics.prom,
+ * aggregated per action, per page action and per test, and the costliest page actions are printed.
+ *
+ * Set metrics.enabled=false to turn recording and the command-counting driver decorator off.
+ */
+public final class ActionMetrics {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99};
+    private static final String NO_TEST = "(none)";
+
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(PropertiesLoader.getConfigProperty("metrics.enabled", "true"));
+    private static final Map<Key, ActionStats> SERIES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<ThreadState> STATE = ThreadLocal.withInitial(ThreadState::new);
+
+    static {
+        if (ENABLED) {
+            Runtime.getRuntime().addShutdownHook(new Thread(ActionMetrics::exportQuietly, "action-metrics-export"));
+        }
+    }
+
+    private record Key(String test, String page, String action) {
+    }
+
+    private static final class ThreadState {
+        private final Deque<Action> open = new ArrayDeque<>();
+        private String test = NO_TEST;
+        private long commands;
+    }
+
+    /**
+     * An action in progress on the calling thread; closing it records the measurements.
+     */
+    public static final class Action implements AutoCloseable {
+        private final String page;
+        private final String action;
+        private final long startNanos = System.nanoTime();
+        private final long startCommands;
+        private long waitNanos;
+
+        private Action(String page, String action, long startCommands) {
+            this.page = page;
+            this.action = action;
+            this.startCommands = startCommands;
+        }
+
+        @Override
+        public void close() {
+            if (this == DISABLED) {
+                return;
+            }
+            ThreadState state = STATE.get();
+            state.open.remove(this);
+            SERIES.computeIfAbsent(new Key(state.test, page, action), key -> new ActionStats())
+                    .record(System.nanoTime() - startNanos, waitNanos, state.commands - startCommands);
+        }
+    }
+
+    private static final Action DISABLED = new Action("", "", 0);
+
+    // Private constructor to prevent instantiation
+    private ActionMetrics() {
+    }
+
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+
+    /**
+     * Attributes actions on the calling thread to a test until {@link #clearCurrentTest()}.
+     */
+    public static void setCurrentTest(String testName) {
+        STATE.get().test = testName;
+    }
+
+
+    public static String getCurrentTest() {
+        return STATE.get().test;
+    }
+
+
+    public static void clearCurrentTest() {
+        STATE.get().test = NO_TEST;
+    }
+
+
+    /**
+     * Starts timing an action of the given page object; use in try-with-resources.
+     */
+    public static Action start(Object page, String action) {
+        return start(page.getClass(), action);
+    }
+
+
+    /**
+     * Starts timing an action that is not tied to a page instance, e.g. DriverFactory starting a browser.
+     */
+    public static Action start(Class<?> owner, String action) {
+        if (!ENABLED) {
+            return DISABLED;
+        }
+        ThreadState state = STATE.get();
+        Action started = new Action(owner.getSimpleName(), action, state.commands);
+        state.open.push(started);
+        return started;
+    }
+
+
+    /**
+     * Runs an explicit wait and charges its duration to every open action on this thread.
+     */
+    public static <T> T timeWait(Supplier<T> wait) {
+        if (!ENABLED) {
+            return wait.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return wait.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            for (Action action : STATE.get().open) {
+                action.waitNanos += elapsed;
+            }
+        }
+    }
+
+
+    /**
+     * Counts one WebDriver command issued by the calling thread.
+     */
+    public static void recordCommand() {
+        STATE.get().commands++;
+    }
+
+
+    /**
+     * Stats per action, merged over pages and tests.
+     */
+    public static Map<String, ActionStats> byAction() {
+        return aggregate(Key::action);
+    }
+
+
+    /**
+     * Stats per page class and action ("AccountPage.click"), merged over tests.
+     */
+    public static Map<String, ActionStats> byPage() {
+        return aggregate(key -> key.page() + "." + key.action());
+    }
+
+
+    /**
+     * Stats per test, page class and action ("CustomerLoginTests.depositMoney/AccountPage.click").
+     */
+    public static Map<String, ActionStats> byTest() {
+        return aggregate(key -> key.test() + "/" + key.page() + "." + key.action());
+    }
+
+
+    public static void reset() {
+        SERIES.clear();
+    }
+
+
+    /**
+     * Writes action-metrics.json and action-metrics.prom into the directory.
+     */
+    public static void export(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("action-metrics.json"), toJson(), StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve("action-metrics.prom"), toPrometheus(), StandardCharsets.UTF_8);
+    }
+
+
+    public static String toJson() {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("unit", Map.of("wall", "ms", "wait", "ms", "commands", "count"));
+        document.put("byAction", describe(byAction()));
+        document.put("byPage", describe(byPage()));
+        document.put("byTest", describe(byTest()));
+        return new Json().toJson(document);
+    }
+
+
+    public static String toPrometheus() {
+        StringBuilder out = new StringBuilder();
+        appendSummaries(out, "xyzbank_action", Key::action, key -> "action=\"" + escape(key.action()) + "\"");
+        appendSummaries(out, "xyzbank_page_action", key -> key.page() + "." + key.action(),
+                key -> "page=\"" + escape(key.page()) + "\",action=\"" + escape(key.action()) + "\"");
+        appendSummaries(out, "xyzbank_test_action", key -> key.test() + "/" + key.page() + "." + key.action(),
+                key -> "test=\"" + escape(key.test()) + "\",page=\"" + escape(key.page())
+                        + "\",action=\"" + escape(key.action()) + "\"");
+        return out.toString();
+    }
+
+
+    private static Map<String, ActionStats> aggregate(Function<Key, String> grouping) {
+        Map<String, ActionStats> merged = new TreeMap<>();
+        SERIES.forEach((key, stats) -> merged.computeIfAbsent(grouping.apply(key), name -> new ActionStats()).add(stats));
+        return merged;
+    }
+
+
+    private static Map<String, Object> describe(Map<String, ActionStats> stats) {
+        Map<String, Object> described = new LinkedHashMap<>();
+        stats.forEach((name, stat) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("count", stat.getWallNanos().getCount());
+            entry.put("wall", describe(stat.getWallNanos(), 1e6));
+            entry.put("wait", describe(stat.getWaitNanos(), 1e6));
+            entry.put("commands", describe(stat.getCommands(), 1));
+            described.put(name, entry);
+        });
+        return described;
+    }
+
+
+    private static Map<String, Object> describe(LatencyHistogram histogram, double divisor) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("total", round(histogram.getSum() / divisor));
+        summary.put("mean", round(histogram.getMean() / divisor));
+        summary.put("min", round(histogram.getMin() / divisor));
+        for (double quantile : QUANTILES) {
+            summary.put("p" + (int) (quantile * 100), round(histogram.getValueAtPercentile(quantile * 100) / divisor));
+        }
+        summary.put("max", round(histogram.getMax() / divisor));
+        return summary;
+    }
+
+
+    // One summary family per measurement, e.g. xyzbank_page_action_wall_seconds{page="AccountPage",action="click",quantile="0.95"}
+    private static void appendSummaries(StringBuilder out, String prefix, Function<Key, String> grouping,
+                                        Function<Key, String> labels) {
+        Map<String, String> labelsByGroup = new TreeMap<>();
+        SERIES.keySet().forEach(key -> labelsByGroup.putIfAbsent(grouping.apply(key), labels.apply(key)));
+        Map<String, ActionStats> stats = aggregate(grouping);
+
+        appendSummary(out, prefix + "_wall_seconds", stats, labelsByGroup, ActionStats::getWallNanos, 1e9);
+        appendSummary(out, prefix + "_wait_seconds", stats, labelsByGroup, ActionStats::getWaitNanos, 1e9);
+        appendSummary(out, prefix + "_commands", stats, labelsByGroup, ActionStats::getCommands, 1);
+    }
+
+
+    private static void appendSummary(StringBuilder out, String name, Map<String, ActionStats> stats,
+                                      Map<String, String> labelsByGroup, Function<ActionStats, LatencyHistogram> measurement,
+                                      double divisor) {
+        out.append("# TYPE ").append(name).append(" summary\n");
+        stats.forEach((group, stat) -> {
+            LatencyHistogram histogram = measurement.apply(stat);
+            String label = labelsByGroup.get(group);
+            for (double quantile : QUANTILES) {
+                out.append(name).append('{').append(label).append(",quantile=\"").append(quantile).append("\"} ")
+                        .append(format(histogram.getValueAtPercentile(quantile * 100) / divisor)).append('\n');
+            }
+            out.append(name).append("_sum{").append(label).append("} ").append(format(histogram.getSum() / divisor)).append('\n');
+            out.append(name).append("_count{").append(label).append("} ").append(histogram.getCount()).append('\n');
+        });
+    }
+
+
+    private static void exportQuietly() {
+        if (SERIES.isEmpty()) {
+            return;
+        }
+        Path directory = Paths.get(PropertiesLoader.getConfigProperty("metrics.export.dir", "target/metrics"));
+        try {
+            export(directory);
+            System.out.println("Action metrics written to " + directory.toAbsolutePath());
+            printTopPageActions(10);
+        } catch (IOException e) {
+            System.err.println("Could not write action metrics to " + directory + ": " + e.getMessage());
+        }
+    }
+
+
+    private static void printTopPageActions(int limit) {
+        List<Map.Entry<String, ActionStats>> entries = new ArrayList<>(byPage().entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, ActionStats> entry) -> entry.getValue().getWallNanos().getSum()).reversed());
+        System.out.println("Slowest page actions by total wall time:");
+        for (Map.Entry<String, ActionStats> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            LatencyHistogram wall = entry.getValue().getWallNanos();
+            System.out.printf(Locale.ROOT, "  %-45s n=%-6d total=%8.1f ms  p95=%7.1f ms  wait=%8.1f ms  cmds/op=%.1f%n",
+                    entry.getKey(), wall.getCount(), wall.getSum() / 1e6, wall.getValueAtPercentile(95) / 1e6,
+                    entry.getValue().getWaitNanos().getSum() / 1e6, entry.getValue().getCommands().getMean());
+        }
+    }
+
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.9g", value);
+    }
+
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,40 @@
+package com.xyzbank.app.metrics;
+
+/**
+ * Wall time, explicit-wait time (both in nanoseconds) and WebDriver command count of one kind of page action.
+ */
+public final class ActionStats {
+
+    private final LatencyHistogram wallNanos = new LatencyHistogram();
+    private final LatencyHistogram waitNanos = new LatencyHistogram();
+    private final LatencyHistogram commands = new LatencyHistogram();
+
+
+    void record(long wall, long wait, long commandCount) {
+        wallNanos.record(wall);
+        waitNanos.record(wait);
+        commands.record(commandCount);
+    }
+
+
+    void add(ActionStats other) {
+        wallNanos.add(other.wallNanos);
+        waitNanos.add(other.waitNanos);
+        commands.add(other.commands);
+    }
+
+
+    public LatencyHistogram getWallNanos() {
+        return wallNanos;
+    }
+
+
+    public LatencyHistogram getWaitNanos() {
+        return waitNanos;
+    }
+
+
+    public LatencyHistogram getCommands() {
+        return commands;
+    }
+}
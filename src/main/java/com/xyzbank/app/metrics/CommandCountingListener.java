@@ -0,0 +1,30 @@
+package com.xyzbank.app.metrics;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Counts every call made through a decorated driver (driver, element, alert, navigation...)
+ * towards the calling thread's open page actions.
+ */
+public class CommandCountingListener implements WebDriverListener {
+
+    // Accessors that only hand out another local object and never reach the browser
+    private static final Set<String> LOCAL_CALLS = Set.of(
+            "manage", "switchTo", "navigate", "timeouts", "window", "logs",
+            "getWrappedDriver", "getWrappedElement", "equals", "hashCode", "toString");
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isCommand(method)) {
+            ActionMetrics.recordCommand();
+        }
+    }
+
+
+    protected static boolean isCommand(Method method) {
+        return !LOCAL_CALLS.contains(method.getName());
+    }
+}
@@ -0,0 +1,208 @@
+package com.xyzbank.app.metrics;
+
+import com.xyzbank.app.utils.PropertiesLoader;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Times every WebDriver command issued through a decorated driver and attributes it to the
+ * test and page-object call chain that issued it, e.g.
+ * CustomerLoginTests.viewTransactions;TransactionsPage.getTransactionsTableData;WebElement.getText.
+ *
+ * At JVM exit one folded-stack file per test is written to trace.output.dir (default
+ * target/command-traces), weighted in microseconds (*.folded) and in command counts
+ * (*.commands.folded), ready for flamegraph.pl or speedscope, plus all.folded across tests.
+ * The page methods issuing the most commands are printed, which is where batching pays off.
+ *
+ * Enable with trace.commands=true; commands still count towards ActionMetrics.
+ */
+public class CommandTracer extends CommandCountingListener {
+
+    private static final String APP_PACKAGE = "com.xyzbank.app.";
+    private static final String METRICS_PACKAGE = "com.xyzbank.app.metrics.";
+
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final Map<String, Map<String, Cell>> STACKS_BY_TEST = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Deque<Long>> STARTS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    static {
+        if (isEnabled()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(CommandTracer::exportQuietly, "command-trace-export"));
+        }
+    }
+
+    private static final class Cell {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(PropertiesLoader.getConfigProperty("trace.commands", "false"));
+    }
+
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        super.beforeAnyCall(target, method, args);
+        if (isCommand(method)) {
+            STARTS.get().push(System.nanoTime());
+        }
+    }
+
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+
+    private void finish(Method method) {
+        Deque<Long> starts = STARTS.get();
+        if (!isCommand(method) || starts.isEmpty()) {
+            return;
+        }
+        long elapsed = System.nanoTime() - starts.pop();
+        String stack = callerStack() + method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        Cell cell = STACKS_BY_TEST.computeIfAbsent(ActionMetrics.getCurrentTest(), test -> new ConcurrentHashMap<>())
+                .computeIfAbsent(stack, key -> new Cell());
+        cell.count.increment();
+        cell.nanos.add(elapsed);
+    }
+
+
+    // Project frames from the outermost (test method) down to the innermost page method, ';'-separated
+    private static String callerStack() {
+        List<String> frames = WALKER.walk(stream -> stream
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE) && !frame.getClassName().startsWith(METRICS_PACKAGE))
+                .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + methodName(frame.getMethodName()))
+                .collect(Collectors.toList()));
+        Collections.reverse(frames);
+        StringBuilder stack = new StringBuilder();
+        String previous = null;
+        for (String frame : frames) {
+            if (!frame.equals(previous)) { // Collapse a lambda and its enclosing method into one frame
+                stack.append(frame).append(';');
+            }
+            previous = frame;
+        }
+        return stack.toString();
+    }
+
+
+    private static String methodName(String name) {
+        if (name.startsWith("lambda$")) {
+            int end = name.indexOf('$', "lambda$".length());
+            return end < 0 ? name : name.substring("lambda$".length(), end);
+        }
+        return name;
+    }
+
+
+    /**
+     * Commands per test as folded stacks weighted by count; for tests and reports.
+     */
+    public static Map<String, Map<String, Long>> getCommandCounts() {
+        Map<String, Map<String, Long>> counts = new TreeMap<>();
+        STACKS_BY_TEST.forEach((test, stacks) -> {
+            Map<String, Long> byStack = new TreeMap<>();
+            stacks.forEach((stack, cell) -> byStack.put(stack, cell.count.sum()));
+            counts.put(test, byStack);
+        });
+        return counts;
+    }
+
+
+    public static void export(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        StringBuilder all = new StringBuilder();
+        for (Map.Entry<String, Map<String, Cell>> test : new TreeMap<>(STACKS_BY_TEST).entrySet()) {
+            StringBuilder micros = new StringBuilder();
+            StringBuilder counts = new StringBuilder();
+            new TreeMap<>(test.getValue()).forEach((stack, cell) -> {
+                long weight = Math.max(1, cell.nanos.sum() / 1_000);
+                micros.append(stack).append(' ').append(weight).append('\n');
+                counts.append(stack).append(' ').append(cell.count.sum()).append('\n');
+                all.append(test.getKey()).append(';').append(stack).append(' ').append(weight).append('\n');
+            });
+            String fileName = test.getKey().replaceAll("[^A-Za-z0-9._-]", "_");
+            Files.writeString(directory.resolve(fileName + ".folded"), micros, StandardCharsets.UTF_8);
+            Files.writeString(directory.resolve(fileName + ".commands.folded"), counts, StandardCharsets.UTF_8);
+        }
+        Files.writeString(directory.resolve("all.folded"), all, StandardCharsets.UTF_8);
+    }
+
+
+    private static void exportQuietly() {
+        if (STACKS_BY_TEST.isEmpty()) {
+            return;
+        }
+        Path directory = Paths.get(PropertiesLoader.getConfigProperty("trace.output.dir", "target/command-traces"));
+        try {
+            export(directory);
+            System.out.println("Command traces written to " + directory.toAbsolutePath());
+            printTopPageMethods(10);
+        } catch (IOException e) {
+            System.err.println("Could not write command traces to " + directory + ": " + e.getMessage());
+        }
+    }
+
+
+    // Innermost page-object method (BasePage helpers excluded) per stack, summed over all tests
+    private static void printTopPageMethods(int limit) {
+        Map<String, long[]> byMethod = new TreeMap<>();
+        STACKS_BY_TEST.values().forEach(stacks -> stacks.forEach((stack, cell) -> {
+            long[] totals = byMethod.computeIfAbsent(pageMethodOf(stack), method -> new long[2]);
+            totals[0] += cell.count.sum();
+            totals[1] += cell.nanos.sum();
+        }));
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(byMethod.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[0]).reversed());
+        System.out.println("Page methods by WebDriver commands issued:");
+        for (Map.Entry<String, long[]> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            System.out.printf(Locale.ROOT, "  %-50s commands=%-7d time=%9.1f ms%n",
+                    entry.getKey(), entry.getValue()[0], entry.getValue()[1] / 1e6);
+        }
+    }
+
+
+    private static String pageMethodOf(String stack) {
+        String[] frames = stack.split(";");
+        for (int i = frames.length - 2; i >= 0; i--) {
+            if (isPageFrame(frames[i])) {
+                return frames[i];
+            }
+        }
+        return frames.length > 1 ? frames[frames.length - 2] : "(outside page objects)";
+    }
+
+
+    private static boolean isPageFrame(String frame) {
+        String className = frame.substring(0, frame.indexOf('.'));
+        return className.endsWith("Page") && !"BasePage".equals(className);
+    }
+}
@@ -0,0 +1,29 @@
+package com.xyzbank.app.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A customer the tests need to exist, with one account per listed currency.
+ */
+public record CustomerFixture(String firstName, String lastName, String postCode, List<String> currencies) {
+
+    public CustomerFixture {
+        currencies = List.copyOf(currencies);
+    }
+
+
+    public String fullName() {
+        return firstName + " " + lastName;
+    }
+
+
+    // Shape handed to the in-page seeding script
+    public Map<String, Object> toScriptArgument() {
+        return Map.of(
+                "firstName", firstName,
+                "lastName", lastName,
+                "postCode", postCode,
+                "currencies", currencies);
+    }
+}
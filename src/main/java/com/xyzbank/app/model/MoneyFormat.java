@@ -0,0 +1,70 @@
+package com.xyzbank.app.model;
+
+import java.util.Locale;
+
+/**
+ * Exact conversion between displayed amounts ("100", "12.5", "-20.75") and long minor units.
+ */
+public final class MoneyFormat {
+
+    private static final int MINOR_DIGITS = 2;
+
+    // Private constructor to prevent instantiation
+    private MoneyFormat() {
+    }
+
+
+    /**
+     * @throws NumberFormatException If the text is not a plain decimal with at most two fraction digits.
+     */
+    public static long parseMinorUnits(CharSequence text) {
+        int length = text.length();
+        int start = 0;
+        while (start < length && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (length > start && Character.isWhitespace(text.charAt(length - 1))) {
+            length--;
+        }
+
+        boolean negative = false;
+        if (start < length && (text.charAt(start) == '-' || text.charAt(start) == '+')) {
+            negative = text.charAt(start) == '-';
+            start++;
+        }
+        if (start == length) {
+            throw new NumberFormatException("Not an amount: '" + text + "'");
+        }
+
+        long value = 0;
+        int fractionDigits = -1;
+        for (int i = start; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if (c >= '0' && c <= '9') {
+                if (fractionDigits >= 0 && ++fractionDigits > MINOR_DIGITS) {
+                    throw new NumberFormatException("Too many decimal places: '" + text + "'");
+                }
+                value = Math.addExact(Math.multiplyExact(value, 10), c - '0');
+            } else {
+                throw new NumberFormatException("Not an amount: '" + text + "'");
+            }
+        }
+        for (int scale = Math.max(fractionDigits, 0); scale < MINOR_DIGITS; scale++) {
+            value = Math.multiplyExact(value, 10);
+        }
+        return negative ? -value : value;
+    }
+
+
+    /**
+     * Formats minor units without trailing zero cents, matching the app ("100", "12.50").
+     */
+    public static String format(long amountMinor) {
+        long units = Math.abs(amountMinor / 100);
+        long cents = Math.abs(amountMinor % 100);
+        String sign = amountMinor < 0 ? "-" : "";
+        return cents == 0 ? sign + units : String.format(Locale.ROOT, "%s%d.%02d", sign, units, cents);
+    }
+}
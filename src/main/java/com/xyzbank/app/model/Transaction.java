@@ -0,0 +1,16 @@
+package com.xyzbank.app.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single parsed transaction. Amounts are held in minor units (cents) so sums stay exact.
+ */
+public record Transaction(LocalDateTime timestamp, long amountMinor, TransactionType type) {
+
+    /**
+     * Amount formatted the way the app shows it, e.g. "100" or "12.50".
+     */
+    public String formatAmount() {
+        return MoneyFormat.format(amountMinor);
+    }
+}
@@ -0,0 +1,274 @@
+package com.xyzbank.app.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Column-oriented, primitive-backed store of transactions.
+ * Each row is three array slots (timestamp, amount in minor units, type ordinal), with
+ * per-type row indexes and a time-sorted index for range queries. Aggregations run over the
+ * primitive columns, so no per-row objects are created unless a caller asks for a {@link Transaction}.
+ */
+public final class TransactionStore {
+
+    // The app renders dates with Angular's 'medium' filter, e.g. "Jan 1, 2015 12:00:00 AM"
+    public static final DateTimeFormatter APP_DATE_FORMAT = DateTimeFormatter.ofPattern("MMM d, yyyy h:mm:ss a", Locale.US);
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final long[] epochSeconds;
+    private final long[] amountsMinor;
+    private final byte[] types;
+    private final int size;
+    private final Map<TransactionType, int[]> rowsByType = new EnumMap<>(TransactionType.class);
+    private final int[] rowsByTime;
+
+    private TransactionStore(long[] epochSeconds, long[] amountsMinor, byte[] types, int size) {
+        this.epochSeconds = epochSeconds;
+        this.amountsMinor = amountsMinor;
+        this.types = types;
+        this.size = size;
+
+        int[] counts = new int[TYPES.length];
+        for (int row = 0; row < size; row++) {
+            counts[types[row]]++;
+        }
+        int[][] index = new int[TYPES.length][];
+        for (int t = 0; t < TYPES.length; t++) {
+            index[t] = new int[counts[t]];
+            counts[t] = 0;
+        }
+        for (int row = 0; row < size; row++) {
+            index[types[row]][counts[types[row]]++] = row;
+        }
+        for (int t = 0; t < TYPES.length; t++) {
+            rowsByType.put(TYPES[t], index[t]);
+        }
+
+        rowsByTime = sortRowsByTime(epochSeconds, size);
+    }
+
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+
+    public int size() {
+        return size;
+    }
+
+
+    public Transaction get(int row) {
+        checkRow(row);
+        return new Transaction(toDateTime(epochSeconds[row]), amountsMinor[row], TYPES[types[row]]);
+    }
+
+
+    public long getAmountMinor(int row) {
+        checkRow(row);
+        return amountsMinor[row];
+    }
+
+
+    public TransactionType getType(int row) {
+        checkRow(row);
+        return TYPES[types[row]];
+    }
+
+
+    public LocalDateTime getTimestamp(int row) {
+        checkRow(row);
+        return toDateTime(epochSeconds[row]);
+    }
+
+
+    /**
+     * @return Row positions of the given type, in table order. The array is a copy.
+     */
+    public int[] rowsOfType(TransactionType type) {
+        return rowsByType.get(type).clone();
+    }
+
+
+    public int count(TransactionType type) {
+        return rowsByType.get(type).length;
+    }
+
+
+    /**
+     * @return Row positions with from <= timestamp <= to, in chronological order.
+     */
+    public int[] rowsBetween(LocalDateTime from, LocalDateTime to) {
+        int first = lowerBound(toEpochSeconds(from));
+        int end = upperBound(toEpochSeconds(to));
+        return first >= end ? new int[0] : Arrays.copyOfRange(rowsByTime, first, end);
+    }
+
+
+    public long sumMinor(TransactionType type) {
+        long total = 0;
+        for (int row : rowsByType.get(type)) {
+            total = Math.addExact(total, amountsMinor[row]);
+        }
+        return total;
+    }
+
+
+    public long sumMinor(TransactionType type, LocalDateTime from, LocalDateTime to) {
+        long fromSeconds = toEpochSeconds(from);
+        long toSeconds = toEpochSeconds(to);
+        byte ordinal = (byte) type.ordinal();
+        long total = 0;
+        for (int i = lowerBound(fromSeconds), end = upperBound(toSeconds); i < end; i++) {
+            int row = rowsByTime[i];
+            if (types[row] == ordinal) {
+                total = Math.addExact(total, amountsMinor[row]);
+            }
+        }
+        return total;
+    }
+
+
+    /**
+     * Credits minus debits, in minor units.
+     */
+    public long balanceMinor() {
+        return Math.subtractExact(sumMinor(TransactionType.CREDIT), sumMinor(TransactionType.DEBIT));
+    }
+
+
+    public static LocalDateTime parseTimestamp(String text) {
+        return LocalDateTime.parse(text.trim(), APP_DATE_FORMAT);
+    }
+
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " outside store of size " + size);
+        }
+    }
+
+
+    // First position in rowsByTime whose timestamp is >= seconds
+    private int lowerBound(long seconds) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochSeconds[rowsByTime[mid]] < seconds) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+
+    // First position in rowsByTime whose timestamp is > seconds
+    private int upperBound(long seconds) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochSeconds[rowsByTime[mid]] <= seconds) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+
+    // Rows are normally rendered chronologically, in which case the identity order is used as is
+    private static int[] sortRowsByTime(long[] epochSeconds, int size) {
+        int[] order = new int[size];
+        boolean sorted = true;
+        for (int row = 0; row < size; row++) {
+            order[row] = row;
+            sorted &= row == 0 || epochSeconds[row - 1] <= epochSeconds[row];
+        }
+        if (!sorted) {
+            Integer[] boxed = Arrays.stream(order).boxed().toArray(Integer[]::new);
+            Arrays.sort(boxed, (a, b) -> Long.compare(epochSeconds[a], epochSeconds[b]));
+            for (int i = 0; i < size; i++) {
+                order[i] = boxed[i];
+            }
+        }
+        return order;
+    }
+
+
+    private static long toEpochSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+
+    private static LocalDateTime toDateTime(long epochSeconds) {
+        return LocalDateTime.ofEpochSecond(epochSeconds, 0, ZoneOffset.UTC);
+    }
+
+
+    /**
+     * Accumulates rows straight into growable primitive columns.
+     */
+    public static final class Builder {
+
+        private long[] epochSeconds;
+        private long[] amountsMinor;
+        private byte[] types;
+        private int size;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 8);
+            epochSeconds = new long[capacity];
+            amountsMinor = new long[capacity];
+            types = new byte[capacity];
+        }
+
+
+        public Builder add(LocalDateTime timestamp, long amountMinor, TransactionType type) {
+            if (size == types.length) {
+                int capacity = size * 2;
+                epochSeconds = Arrays.copyOf(epochSeconds, capacity);
+                amountsMinor = Arrays.copyOf(amountsMinor, capacity);
+                types = Arrays.copyOf(types, capacity);
+            }
+            epochSeconds[size] = toEpochSeconds(timestamp);
+            amountsMinor[size] = amountMinor;
+            types[size] = (byte) type.ordinal();
+            size++;
+            return this;
+        }
+
+
+        /**
+         * Parses one table row as rendered by the app.
+         * @throws IllegalArgumentException If the date, amount or type cannot be parsed.
+         */
+        public Builder addRow(String dateText, String amountText, String typeText) {
+            TransactionType type = TransactionType.fromLabel(typeText);
+            if (type == null) {
+                throw new IllegalArgumentException("Unknown transaction type: '" + typeText + "'");
+            }
+            try {
+                return add(parseTimestamp(dateText), MoneyFormat.parseMinorUnits(amountText), type);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Unparseable transaction date: '" + dateText + "'", e);
+            }
+        }
+
+
+        public TransactionStore build() {
+            return new TransactionStore(epochSeconds, amountsMinor, types, size);
+        }
+    }
+}
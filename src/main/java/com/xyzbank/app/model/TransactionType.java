@@ -0,0 +1,39 @@
+package com.xyzbank.app.model;
+
+/**
+ * Transaction types as labelled in the XYZ Bank transactions table.
+ */
+public enum TransactionType {
+
+    CREDIT("Credit"),
+    DEBIT("Debit");
+
+    private final String label;
+
+    TransactionType(String label) {
+        this.label = label;
+    }
+
+
+    public String getLabel() {
+        return label;
+    }
+
+
+    /**
+     * @param label Table label, matched case-insensitively (e.g. "Credit").
+     * @return The matching type, or null if the label is not a known type.
+     */
+    public static TransactionType fromLabel(String label) {
+        if (label == null) {
+            return null;
+        }
+        String trimmed = label.trim();
+        for (TransactionType type : values()) {
+            if (type.label.equalsIgnoreCase(trimmed)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -10,6 +10,8 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.time.Duration;
+
 public class AccountPage extends BasePage {
 
     // Web Elements on the Account Page
@@ -34,7 +36,7 @@ public class AccountPage extends BasePage {
     @FindBy(css = ".btn.logout")
     private WebElement logoutButton;
 
-    // Deposit/Withdrawal form elements
+    // Deposit/Withdrawal form elements, backed by cached handles (see submitAmount)
     @FindBy(css = "input[placeholder='amount']")
     private WebElement amountInput;
 
@@ -110,35 +112,40 @@ public class AccountPage extends BasePage {
    //    ("Deposit funds: {amount}")
     public void depositFunds(String amount) {
         clickDepositButton();
-        waitForVisibility(amountInput);
-        amountInput.clear();
-        amountInput.sendKeys(amount);
-        click(submitButton);
-
-        // Wait for the transaction to complete
-        try {
-            Thread.sleep(2000); // Small wait for transaction processing
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        submitAmount(amount);
     }
 
 
     //    ("Withdraw funds: {amount}")
     public void withdrawFunds(String amount) {
-        waitForVisibility(withdrawalButton);
         clickWithdrawalButton();
-        waitForVisibility(amountInput);
+        submitAmount(amount);
+    }
+
+
+    // The form is already visible after clickDepositButton/clickWithdrawalButton. amountInput and
+    // submitButton keep their cached handles for the whole form; switching between the deposit and
+    // withdrawal tabs re-renders them, which the handles detect as stale and re-resolve once
+    private void submitAmount(String amount) {
         amountInput.clear();
         amountInput.sendKeys(amount);
+        String previousBalance = currentBalance.getText().trim();
         click(submitButton);
+        waitForTransactionToSettle(previousBalance);
+    }
 
-        // Wait for the transaction to complete
-        try {
-            Thread.sleep(1000); // Small wait for transaction processing
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+
+    // A submit has settled once the status message shows, the balance moves,
+    // or the browser rejected the amount through HTML5 validation
+    private Duration waitForTransactionToSettle(String previousBalance) {
+        Duration idle = waitForAngularIdle();
+        Duration outcome = waitUntilSettled("transaction outcome", d -> Boolean.TRUE.equals(executeScript(
+                "var message = arguments[0], amount = arguments[1], balance = arguments[2];" +
+                "if (message.offsetParent !== null && message.textContent.trim() !== '') { return true; }" +
+                "if (amount.validity && !amount.validity.valid) { return true; }" +
+                "return balance.textContent.trim() !== arguments[3];",
+                transactionStatusMessage, amountInput, currentBalance, previousBalance)));
+        return idle.plus(outcome);
     }
 
 
@@ -212,11 +219,7 @@ public class AccountPage extends BasePage {
 
 
     private boolean isElementPresent(WebElement element) {
-        try {
-            return element.isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return isElementDisplayed(element);
     }
 
 
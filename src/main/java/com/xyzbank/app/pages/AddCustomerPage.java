@@ -6,6 +6,8 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.util.List;
+
 public class AddCustomerPage extends BasePage {
 
 
@@ -47,11 +49,26 @@ public class AddCustomerPage extends BasePage {
     }
 
 
+    // HTML5 validation: true when the browser blocked the submit because the field is empty
+    public boolean isFirstNameValueMissing() {
+        return isValueMissing(firstNameInput);
+    }
+
+
+    public boolean isLastNameValueMissing() {
+        return isValueMissing(lastNameInput);
+    }
+
+
+    public boolean isPostCodeValueMissing() {
+        return isValueMissing(postCodeInput);
+    }
+
+
     public String addCustomer(String firstName, String lastName, String postCode) {
-        enterFirstName(firstName);
-        enterLastName(lastName);
-        enterPostCode(postCode);
-        clickAddCustomerSubmitButton();
+        // All three fields and the submit in one script call (form.fill.mode=fields types them one by one)
+        fillAndSubmit(List.of(firstNameInput, lastNameInput, postCodeInput),
+                List.of(firstName, lastName, postCode), addCustomerSubmitButton);
         return getAlertTextAndAccept(); // This will now call the method from BasePage
     }
 
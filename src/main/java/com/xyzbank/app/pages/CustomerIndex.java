@@ -0,0 +1,138 @@
+package com.xyzbank.app.pages;
+
+import com.xyzbank.app.pages.base.TableData;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lookup index over one snapshot of the customers table: first name, last name, full name
+ * (case-insensitive) and account number mapped to row positions, so finding a customer is a
+ * map lookup instead of a scan over every row and cell.
+ *
+ * Only valid for the table state it was built from; CustomersPage rebuilds it when the table body changes.
+ */
+public final class CustomerIndex {
+
+    public static final String FIRST_NAME = "First Name";
+    public static final String LAST_NAME = "Last Name";
+    public static final String POST_CODE = "Post Code";
+    public static final String ACCOUNT_NUMBER = "Account Number";
+
+    private final TableData table;
+    private final Map<String, Integer> byFirstName = new HashMap<>();
+    private final Map<String, Integer> byLastName = new HashMap<>();
+    private final Map<String, Integer> byFullName = new HashMap<>();
+    private final Map<String, Integer> byAccountNumber = new HashMap<>();
+
+    public CustomerIndex(TableData table) {
+        this.table = table;
+        if (table.getHeaders().size() < 2) {
+            return;
+        }
+        // Names are the first two columns unless the headers say otherwise
+        List<String> firstNames = table.getColumn(Math.max(0, table.indexOf(FIRST_NAME)));
+        List<String> lastNames = table.getColumn(table.indexOf(LAST_NAME) >= 0 ? table.indexOf(LAST_NAME) : 1);
+        List<String> accounts = table.getColumn(ACCOUNT_NUMBER);
+        // putIfAbsent keeps the first row in table order, as the old top-down scans did
+        for (int row = 0; row < table.getRowCount(); row++) {
+            byFirstName.putIfAbsent(key(firstNames.get(row)), row);
+            byLastName.putIfAbsent(key(lastNames.get(row)), row);
+            byFullName.putIfAbsent(key(firstNames.get(row) + " " + lastNames.get(row)), row);
+            if (!accounts.isEmpty()) {
+                for (String accountNumber : accounts.get(row).trim().split("\\s+")) {
+                    if (!accountNumber.isEmpty()) {
+                        byAccountNumber.putIfAbsent(accountNumber, row);
+                    }
+                }
+            }
+        }
+    }
+
+
+    public TableData getTable() {
+        return table;
+    }
+
+
+    public int size() {
+        return table.getRowCount();
+    }
+
+
+    /**
+     * @return Row of the customer with this full name, or -1.
+     */
+    public int rowOfFullName(String fullName) {
+        return byFullName.getOrDefault(key(fullName), -1);
+    }
+
+
+    /**
+     * @return Row holding this account number, or -1.
+     */
+    public int rowOfAccount(String accountNumber) {
+        return byAccountNumber.getOrDefault(accountNumber.trim(), -1);
+    }
+
+
+    /**
+     * First row whose full, first or last name equals the given name (case-insensitive), or -1.
+     */
+    public int rowOfName(String name) {
+        String key = key(name);
+        int row = -1;
+        for (Map<String, Integer> names : List.of(byFullName, byFirstName, byLastName)) {
+            Integer candidate = names.get(key);
+            if (candidate != null && (row < 0 || candidate < row)) {
+                row = candidate;
+            }
+        }
+        return row;
+    }
+
+
+    /**
+     * True if a customer matches the name (full, first or last) or the value is one of their account numbers.
+     */
+    public boolean contains(String nameOrAccount) {
+        return rowOfName(nameOrAccount) >= 0 || rowOfAccount(nameOrAccount) >= 0;
+    }
+
+
+    /**
+     * First row whose text (non-empty cells joined by spaces, as the browser renders the row)
+     * contains the given text, case-sensitive, or -1. A scan over every row, for partial names,
+     * post codes and other values the maps do not cover.
+     */
+    public int rowContaining(String text) {
+        for (int row = 0; row < table.getRowCount(); row++) {
+            StringBuilder rowText = new StringBuilder();
+            for (int column = 0; column < table.getHeaders().size(); column++) {
+                String cell = table.getCell(row, column).trim();
+                if (!cell.isEmpty()) {
+                    rowText.append(rowText.isEmpty() ? "" : " ").append(cell);
+                }
+            }
+            if (rowText.indexOf(text) >= 0) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+
+    /**
+     * @return The row as header -> value, or null if the row is -1.
+     */
+    public Map<String, String> getRow(int row) {
+        return row < 0 ? null : table.getRow(row);
+    }
+
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,59 @@
+package com.xyzbank.app.pages;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Filter for {@link CustomersPage#findCustomers}; null fields match anything.
+ * e.g. CustomerQuery.all().withNamePrefix("Har").withAccount(true)
+ *
+ * @param namePrefix Case-insensitive prefix of the first, last or full name.
+ * @param postCode   Exact post code, case-insensitive.
+ * @param hasAccount Whether the customer must (true) or must not (false) have an account.
+ */
+public record CustomerQuery(String namePrefix, String postCode, Boolean hasAccount) {
+
+    public static CustomerQuery all() {
+        return new CustomerQuery(null, null, null);
+    }
+
+
+    public CustomerQuery withNamePrefix(String prefix) {
+        return new CustomerQuery(prefix, postCode, hasAccount);
+    }
+
+
+    public CustomerQuery withPostCode(String code) {
+        return new CustomerQuery(namePrefix, code, hasAccount);
+    }
+
+
+    public CustomerQuery withAccount(boolean account) {
+        return new CustomerQuery(namePrefix, postCode, account);
+    }
+
+
+    /**
+     * Same predicate as the in-page query, applied to a customers table row (header -> value).
+     */
+    public boolean matches(Map<String, String> row) {
+        String first = row.getOrDefault(CustomerIndex.FIRST_NAME, "");
+        String last = row.getOrDefault(CustomerIndex.LAST_NAME, "");
+        if (namePrefix != null) {
+            String prefix = lower(namePrefix);
+            if (!lower(first).startsWith(prefix) && !lower(last).startsWith(prefix)
+                    && !lower(first + " " + last).startsWith(prefix)) {
+                return false;
+            }
+        }
+        if (postCode != null && !postCode.equalsIgnoreCase(row.getOrDefault(CustomerIndex.POST_CODE, ""))) {
+            return false;
+        }
+        return hasAccount == null || hasAccount == !row.getOrDefault(CustomerIndex.ACCOUNT_NUMBER, "").isBlank();
+    }
+
+
+    private static String lower(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -11,9 +11,44 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 public class CustomersPage extends BasePage {
 
+    // Filters the list controller's customer array in the page and returns only the matches;
+    // null when the Angular scope is not reachable (e.g. debug info disabled)
+    private static final String QUERY_SCRIPT =
+            "var scope = window.angular && window.angular.element(arguments[0]).scope();" +
+            "if (!scope || !scope.Customers) { return null; }" +
+            "var prefix = arguments[1] === null ? null : arguments[1].toLowerCase();" +
+            "var postCode = arguments[2] === null ? null : arguments[2].toLowerCase();" +
+            "var hasAccount = arguments[3];" +
+            "var matches = [];" +
+            "for (var i = 0; i < scope.Customers.length; i++) {" +
+            "  var cust = scope.Customers[i];" +
+            "  var first = String(cust.fName || ''), last = String(cust.lName || '');" +
+            "  if (prefix !== null && first.toLowerCase().indexOf(prefix) !== 0" +
+            "      && last.toLowerCase().indexOf(prefix) !== 0" +
+            "      && (first + ' ' + last).toLowerCase().indexOf(prefix) !== 0) { continue; }" +
+            "  if (postCode !== null && String(cust.postCd || '').toLowerCase() !== postCode) { continue; }" +
+            "  var accounts = (cust.accountNo || []).map(String);" +
+            "  if (hasAccount !== null && (accounts.length > 0) !== hasAccount) { continue; }" +
+            "  matches.push({ first: first, last: last, postCode: String(cust.postCd || ''), accounts: accounts.join(' ') });" +
+            "}" +
+            "return matches;";
+
+    // Deletes every customer whose "first last" name matches the pattern through the list controller's
+    // own deleteCust, then runs one digest; null when the Angular scope is not reachable
+    private static final String DELETE_MATCHING_SCRIPT =
+            "var scope = window.angular && window.angular.element(arguments[0]).scope();" +
+            "if (!scope || !scope.Customers || typeof scope.deleteCust !== 'function') { return null; }" +
+            "var pattern = new RegExp(arguments[1]);" +
+            "var doomed = scope.Customers.filter(function (cust) {" +
+            "  return pattern.test(cust.fName + ' ' + cust.lName); });" +
+            "doomed.forEach(function (cust) { scope.deleteCust(cust); });" +
+            "if (doomed.length > 0 && !scope.$root.$$phase) { scope.$apply(); }" +
+            "return doomed.length;";
+
     // Web Elements on the Customers Page
     @FindBy(css = "input[placeholder='Search Customer']")
     private WebElement searchCustomerInput;
@@ -24,6 +59,8 @@ public class CustomersPage extends BasePage {
     @FindBy(xpath = "//table[@class='table table-bordered table-striped']/thead/tr")
     private WebElement customersTableHeader;
 
+    private CustomerIndex index;
+
     // Constructor
     public CustomersPage(WebDriver driver, WebDriverWait wait) {
         super(driver, wait);
@@ -34,9 +71,7 @@ public class CustomersPage extends BasePage {
      * @param searchTerm The text to search for (e.g., first name, last name, postcode).
      */
     public void searchCustomer(String searchTerm) {
-        // Clear the search input first to ensure a fresh search
-        searchCustomerInput.clear();
-        type(searchCustomerInput, searchTerm);
+        type(searchCustomerInput, searchTerm); // type() clears the field first
     }
 
     /**
@@ -46,41 +81,60 @@ public class CustomersPage extends BasePage {
      * @return True if the customer was found and deleted, false otherwise.
      */
     public boolean deleteCustomer(String customerName) {
-        waitForVisibility(customersTableBody);
-        List<WebElement> rows = customersTableBody.findElements(By.tagName("tr"));
-
-        for (WebElement row : rows) {
-            List<WebElement> cells = row.findElements(By.tagName("td"));
-            String firstName = cells.get(0).getText().trim();
-            String lastName = cells.get(1).getText().trim();
-            String fullName = firstName + " " + lastName;
-
-            if (fullName.equalsIgnoreCase(customerName) ||
-                    firstName.equalsIgnoreCase(customerName) ||
-                    lastName.equalsIgnoreCase(customerName)) {
-                WebElement deleteButton = row.findElement(By.cssSelector("button[ng-click='deleteCust(cust)']"));
-                click(deleteButton);
-                return true;
+        CustomerIndex customers = getCustomerIndex();
+        int row = customers.rowOfName(customerName);
+        if (row < 0) {
+            return false;
+        }
+        // Straight to the row's button; the deletion changes the body, so the next lookup re-indexes
+        click(deleteButtonAt(row));
+        return true;
+    }
+
+    /**
+     * Deletes every customer whose full name ("First Last") matches the regular expression
+     * (unanchored; keep to syntax Java and JavaScript share, e.g. "^DataFN_P\\d+ ").
+     * All matches go in one script call through the page's own delete handler. Without the Angular
+     * scope, falls back to clicking the delete buttons back to back, bottom row first, so earlier
+     * row positions stay valid and the table is never re-read between clicks.
+     * @return The number of customers deleted.
+     */
+    public int deleteCustomersMatching(String pattern) {
+        Object deleted = null;
+        try {
+            deleted = executeScript(DELETE_MATCHING_SCRIPT, customersTableBody, pattern);
+        } catch (Exception e) {
+            System.err.println("In-page customer cleanup failed, deleting through the UI: " + e.getMessage());
+        }
+        if (deleted instanceof Number inPage) {
+            return inPage.intValue();
+        }
+
+        searchCustomer(""); // Every customer must be listed for the positions to cover them all
+        Pattern names = Pattern.compile(pattern);
+        CustomerIndex customers = getCustomerIndex();
+        List<String> firstNames = customers.getTable().getColumn(CustomerIndex.FIRST_NAME);
+        List<String> lastNames = customers.getTable().getColumn(CustomerIndex.LAST_NAME);
+        int count = 0;
+        for (int row = customers.size() - 1; row >= 0; row--) {
+            if (names.matcher(firstNames.get(row) + " " + lastNames.get(row)).find()) {
+                click(deleteButtonAt(row));
+                count++;
             }
         }
-        return false;
+        return count;
     }
 
     /**
      * Checks if a customer is present in the table after a search or filter.
-     * @param customerName The full name of the customer (e.g., "Hermione Granger").
+     * @param customerName The full name of the customer (e.g., "Hermione Granger"); a first name,
+     *                     last name or account number is found through the index, and any other text
+     *                     of a row (partial name, post code) by a scan of the same snapshot.
      * @return True if the customer is found in the displayed table, false otherwise.
      */
     public boolean isCustomerPresent(String customerName) {
-        waitForVisibility(customersTableBody);
-        List<WebElement> rows = customersTableBody.findElements(By.tagName("tr"));
-        for (WebElement row : rows) {
-            String rowText = row.getText();
-            if (rowText.contains(customerName)) {
-                return true;
-            }
-        }
-        return false;
+        CustomerIndex customers = getCustomerIndex();
+        return customers.contains(customerName) || customers.rowContaining(customerName) >= 0;
     }
 
     /**
@@ -89,41 +143,75 @@ public class CustomersPage extends BasePage {
      * @return A Map of customer details (header -> value), or null if not found.
      */
     public Map<String, String> getCustomerDetails(String customerName) {
-        waitForVisibility(customersTableBody);
-
-        // Get header names
-        List<WebElement> headerCells = customersTableHeader.findElements(By.tagName("td"));
-        List<String> headers = new ArrayList<>();
-        for (WebElement headerCell : headerCells) {
-            headers.add(headerCell.getText().trim());
-        }
+        CustomerIndex customers = getCustomerIndex();
+        return customers.getRow(customers.rowOfFullName(customerName));
+    }
 
-        List<WebElement> rows = customersTableBody.findElements(By.tagName("tr"));
-        for (WebElement row : rows) {
-            List<WebElement> cells = row.findElements(By.tagName("td"));
-            String currentCustomerFullName = cells.get(0).getText().trim() + " " + cells.get(1).getText().trim();
-
-            if (currentCustomerFullName.equalsIgnoreCase(customerName)) {
-                Map<String, String> customerDetails = new HashMap<>();
-                for (int i = 0; i < headers.size() && i < cells.size(); i++) {
-                    customerDetails.put(headers.get(i), cells.get(i).getText().trim());
-                }
-                return customerDetails;
-            }
-        }
-        return null; // Customer not found
+    /**
+     * Retrieves details for the customer holding the given account number.
+     * @return A Map of customer details (header -> value), or null if no customer has that account.
+     */
+    public Map<String, String> getCustomerDetailsByAccount(String accountNumber) {
+        CustomerIndex customers = getCustomerIndex();
+        return customers.getRow(customers.rowOfAccount(accountNumber));
     }
 
     /**
      * Gets the number of customers displayed in the table.
      * @return The count of customer rows (excluding header).
      */
-    public int getCustomerCount() { // <--- NEW METHOD ADDED HERE
+    public int getCustomerCount() {
+        return getCustomerIndex().size();
+    }
+
+    /**
+     * Customers matching the query, evaluated over the Angular scope's customer array in a single
+     * script call, so the cost does not grow with the table. This covers every customer, whatever
+     * is typed in the search box. If the scope cannot be reached, clears the search box and filters
+     * the table snapshot instead.
+     * @return Matching customers as header -> value maps, like {@link #getCustomerDetails(String)}.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, String>> findCustomers(CustomerQuery query) {
+        Object result = null;
+        try {
+            result = executeScript(QUERY_SCRIPT, customersTableBody,
+                    query.namePrefix(), query.postCode(), query.hasAccount());
+        } catch (Exception e) {
+            System.err.println("In-page customer query failed, filtering the table instead: " + e.getMessage());
+        }
+        if (!(result instanceof List)) {
+            searchCustomer(""); // The table only lists what the search box lets through
+            return getCustomerIndex().getTable().toRowMaps().stream().filter(query::matches).toList();
+        }
+        List<Map<String, String>> customers = new ArrayList<>();
+        for (Map<String, Object> match : (List<Map<String, Object>>) result) {
+            Map<String, String> customer = new HashMap<>();
+            customer.put(CustomerIndex.FIRST_NAME, (String) match.get("first"));
+            customer.put(CustomerIndex.LAST_NAME, (String) match.get("last"));
+            customer.put(CustomerIndex.POST_CODE, (String) match.get("postCode"));
+            customer.put(CustomerIndex.ACCOUNT_NUMBER, (String) match.get("accounts"));
+            customers.add(customer);
+        }
+        return customers;
+    }
+
+    /**
+     * Index over the displayed customers. Reuses the last one while the table body is unchanged
+     * (one small version check), otherwise reads the table once and re-indexes it.
+     */
+    public CustomerIndex getCustomerIndex() {
+        if (index != null && isTableUnchanged(index.getTable(), customersTableBody)) {
+            return index;
+        }
         waitForVisibility(customersTableBody);
-        List<WebElement> rows = customersTableBody.findElements(By.tagName("tr"));
-        return rows.size();
+        index = new CustomerIndex(readTable(customersTableHeader, customersTableBody));
+        return index;
     }
 
+    private WebElement deleteButtonAt(int row) {
+        return customersTableBody.findElement(By.xpath("./tr[" + (row + 1) + "]//button[@ng-click='deleteCust(cust)']"));
+    }
 
     /**
      * Verifies if the Customers Page is displayed by checking key elements.
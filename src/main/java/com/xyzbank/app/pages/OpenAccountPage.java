@@ -1,16 +1,68 @@
 package com.xyzbank.app.pages;
 
+import com.xyzbank.app.metrics.ActionMetrics;
 import com.xyzbank.app.pages.base.BasePage;
-import org.openqa.selenium.Alert;
+import com.xyzbank.app.utils.PropertiesLoader;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
 public class OpenAccountPage extends BasePage {
 
+    // Opens a batch of accounts back to back in one call. window.alert is swapped for a collector while
+    // the batch runs, so each confirmation is read in the page instead of through a WebDriver alert round trip.
+    // Results also go to a window property tagged with the batch id as they come in, see PROGRESS_SCRIPT
+    private static final String OPEN_ACCOUNTS_SCRIPT =
+            "var requests = arguments[0], customer = arguments[1], currency = arguments[2], submit = arguments[3];" +
+            "var results = [];" +
+            "window.__xyzbankOpenAccounts = { batch: arguments[4], results: results };" +
+            "function pick(select, text) {" +
+            "  for (var o = 0; o < select.options.length; o++) {" +
+            "    if (select.options[o].text.replace(/\\s+/g, ' ').trim() === text) {" +
+            "      select.selectedIndex = o;" +
+            "      select.dispatchEvent(new Event('change', { bubbles: true }));" +
+            "      return true;" +
+            "    }" +
+            "  }" +
+            "  return false;" +
+            "}" +
+            "var messages = [], original = window.alert;" +
+            "window.alert = function (message) { messages.push(String(message)); };" +
+            "try {" +
+            "  for (var i = 0; i < requests.length; i++) {" +
+            "    messages.length = 0;" +
+            "    if (!pick(customer, requests[i][0])) { results.push({ error: 'Cannot locate option with text: ' + requests[i][0] }); continue; }" +
+            "    if (!pick(currency, requests[i][1])) { results.push({ error: 'Cannot locate option with text: ' + requests[i][1] }); continue; }" +
+            "    try { submit.click(); } catch (err) { if (messages.length === 0) { messages.push('Submit failed: ' + err); } }" +
+            "    results.push(messages.length > 0 ? { alert: messages.join('\\n') } : { error: 'No confirmation alert' });" +
+            "  }" +
+            "} finally {" +
+            "  window.alert = original;" +
+            "}" +
+            "return results;";
+
+    // Results the given batch recorded before its call failed; null if that batch never started in this page
+    private static final String PROGRESS_SCRIPT =
+            "var progress = window.__xyzbankOpenAccounts;" +
+            "return progress && progress.batch === arguments[0] ? progress.results : null;";
+
+    private static final Pattern ACCOUNT_NUMBER = Pattern.compile("(\\d+)\\s*$");
+
+    private static final AtomicLong BATCH_IDS = new AtomicLong();
+
     @FindBy(id = "userSelect")
     private WebElement customerNameDropdown;
 
@@ -46,22 +98,114 @@ public class OpenAccountPage extends BasePage {
 
 
     public String getAlertTextAndAccept() {
-        wait.until(ExpectedConditions.alertIsPresent());
-        Alert alert = driver.switchTo().alert();
-        String alertText = alert.getText();
-        alert.accept(); // Dismiss the alert
-        return alertText;
+        return super.getAlertTextAndAccept();
     }
 
 
     public String openAccount(String customerName, String currency) {
-        selectCustomerName(customerName);
-        selectCurrency(currency);
-        clickProcessButton();
+        // Both selections and the submit in one script call (form.fill.mode=fields selects them one by one)
+        fillAndSubmit(List.of(customerNameDropdown, currencyDropdown), List.of(customerName, currency), processButton);
         return getAlertTextAndAccept();
     }
 
 
+    /**
+     * Opens accounts for a stream of (customer, currency) requests, open.account.batch.size (default 50)
+     * at a time, each batch in one script call with the confirmation alerts collected in the page.
+     * The stream is consumed batch by batch, so it can be generated lazily. With form.fill.mode=fields
+     * the requests go through {@link #openAccount} one by one instead, as do those a failed batch call
+     * had not reached yet.
+     * Prints the throughput once done.
+     * @return Account numbers in request order, plus the requests that failed.
+     */
+    public BulkOpenResult openAccounts(Stream<AccountRequest> requests) {
+        int batchSize = Integer.parseInt(PropertiesLoader.getConfigProperty("open.account.batch.size", "50"));
+        boolean pipelined = !"fields".equalsIgnoreCase(PropertiesLoader.getConfigProperty("form.fill.mode", "script"));
+        List<String> accountNumbers = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+        long start = System.nanoTime();
+
+        try (ActionMetrics.Action ignored = ActionMetrics.start(this, "openAccounts")) {
+            waitForVisibility(processButton);
+            Iterator<AccountRequest> pending = requests.iterator();
+            List<AccountRequest> batch = new ArrayList<>(batchSize);
+            while (pending.hasNext()) {
+                batch.add(pending.next());
+                if (batch.size() == batchSize || !pending.hasNext()) {
+                    List<String> alerts = pipelined ? openBatch(batch) : new ArrayList<>();
+                    // Whatever the batch script did not reach (all of it when it is off or cannot run) goes one by one
+                    for (int i = alerts.size(); i < batch.size(); i++) {
+                        alerts.add(openOne(batch.get(i)));
+                    }
+                    for (int i = 0; i < batch.size(); i++) {
+                        Matcher matcher = ACCOUNT_NUMBER.matcher(alerts.get(i));
+                        if (alerts.get(i).startsWith("Account created") && matcher.find()) {
+                            accountNumbers.add(matcher.group(1));
+                        } else {
+                            failures.add(batch.get(i) + ": " + alerts.get(i));
+                        }
+                    }
+                    batch.clear();
+                }
+            }
+        }
+
+        BulkOpenResult result = new BulkOpenResult(accountNumbers, failures, Duration.ofNanos(System.nanoTime() - start));
+        System.out.printf(Locale.ROOT, "Opened %d account(s) in %d ms (%.1f accounts/s), %d failed%n",
+                accountNumbers.size(), result.elapsed().toMillis(), result.getAccountsPerSecond(), failures.size());
+        return result;
+    }
+
+
+    // One entry per request the script reached, in order: the confirmation alert text or an error.
+    // When the call fails, the entries recorded before the failure are read back, so only the requests
+    // the script never reached are replayed and no account is opened twice. If that record cannot be read,
+    // nothing is replayed and the whole batch is reported as failed with an unknown outcome.
+    private List<String> openBatch(List<AccountRequest> batch) {
+        List<List<String>> arguments = new ArrayList<>();
+        for (AccountRequest request : batch) {
+            arguments.add(List.of(request.customerName(), request.currency()));
+        }
+        String batchId = "batch-" + BATCH_IDS.incrementAndGet();
+        try {
+            return toAlerts(executeScript(OPEN_ACCOUNTS_SCRIPT, arguments, customerNameDropdown, currencyDropdown,
+                    processButton, batchId));
+        } catch (Exception e) {
+            System.err.println("Bulk account opening failed, opening the remaining accounts one by one: " + e.getMessage());
+            try {
+                return toAlerts(executeScript(PROGRESS_SCRIPT, batchId));
+            } catch (Exception progressFailure) {
+                List<String> unknown = new ArrayList<>();
+                for (int i = 0; i < batch.size(); i++) {
+                    unknown.add("Outcome unknown, not retried: " + e);
+                }
+                return unknown;
+            }
+        }
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private static List<String> toAlerts(Object raw) {
+        List<String> alerts = new ArrayList<>();
+        if (raw instanceof List) {
+            for (Map<String, Object> entry : (List<Map<String, Object>>) raw) {
+                alerts.add(String.valueOf(entry.containsKey("alert") ? entry.get("alert") : entry.get("error")));
+            }
+        }
+        return alerts;
+    }
+
+
+    private String openOne(AccountRequest request) {
+        try {
+            return openAccount(request.customerName(), request.currency());
+        } catch (RuntimeException e) {
+            return String.valueOf(e); // Many exceptions carry no message
+        }
+    }
+
+
     public boolean isOpenAccountPageDisplayed() {
         try {
             waitForVisibility(customerNameDropdown);
@@ -72,4 +216,20 @@ public class OpenAccountPage extends BasePage {
             return false;
         }
     }
-}
\ No newline at end of file
+
+
+    public record AccountRequest(String customerName, String currency) {
+    }
+
+
+    /**
+     * @param accountNumbers Opened account numbers, in request order.
+     * @param failures       One "request: reason" entry per request that did not open an account.
+     */
+    public record BulkOpenResult(List<String> accountNumbers, List<String> failures, Duration elapsed) {
+
+        public double getAccountsPerSecond() {
+            return elapsed.isZero() ? 0 : accountNumbers.size() / (elapsed.toNanos() / 1e9);
+        }
+    }
+}
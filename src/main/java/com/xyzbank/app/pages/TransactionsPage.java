@@ -1,6 +1,10 @@
 package com.xyzbank.app.pages;
 
+import com.xyzbank.app.model.MoneyFormat;
+import com.xyzbank.app.model.TransactionStore;
+import com.xyzbank.app.model.TransactionType;
 import com.xyzbank.app.pages.base.BasePage;
+import com.xyzbank.app.pages.base.TableData;
 //import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
@@ -9,7 +13,6 @@ import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -37,6 +40,11 @@ public class TransactionsPage extends BasePage {
     @FindBy(css = "table thead tr")
     private WebElement transactionsTableHeader;
 
+    // Last table read; dropped by anything that changes the filter and checked against DOM mutations
+    private TableData snapshot;
+    private TableData storeSource;
+    private TransactionStore store;
+
     // Constructor
     public TransactionsPage(WebDriver driver, WebDriverWait wait) {
         super(driver, wait);
@@ -57,6 +65,7 @@ public class TransactionsPage extends BasePage {
 
     //    ("Set start date filter: {startDate}")
     public void setStartDate(String startDate) {
+        invalidateSnapshot();
         waitForVisibility(startDateInput);
         startDateInput.clear();
         startDateInput.sendKeys(startDate);
@@ -65,6 +74,7 @@ public class TransactionsPage extends BasePage {
 
     //    ("Set end date filter: {endDate}")
     public void setEndDate(String endDate) {
+        invalidateSnapshot();
         waitForVisibility(endDateInput);
         endDateInput.clear();
         endDateInput.sendKeys(endDate);
@@ -87,13 +97,12 @@ public class TransactionsPage extends BasePage {
 
     //    ("Click Reset button")
     public void clickResetButton() {
+        invalidateSnapshot();
         click(resetButton);
-        // Small wait for the reset to take effect
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Reset has taken effect once the date filters are cleared and the table re-rendered
+        waitUntilSettled("filters reset", d -> startDateInput.getAttribute("value").isEmpty()
+                && endDateInput.getAttribute("value").isEmpty());
+        waitForAngularIdle();
     }
 
 
@@ -106,35 +115,29 @@ public class TransactionsPage extends BasePage {
 
     //    ("Get all transaction table data")
     public List<Map<String, String>> getTransactionsTableData() {
-        waitForVisibility(transactionsTable);
-        List<Map<String, String>> transactions = new ArrayList<>();
-
-        try {
-            // Get header names
-            List<WebElement> headerCells = transactionsTableHeader.findElements(By.tagName("td"));
-            List<String> headers = new ArrayList<>();
-            for (WebElement headerCell : headerCells) {
-                headers.add(headerCell.getText().trim());
-            }
+        return getTransactionsTable().toRowMaps();
+    }
 
-            // Get transaction rows
-            List<WebElement> rows = transactionsTableBody.findElements(By.tagName("tr"));
 
-            for (WebElement row : rows) {
-                List<WebElement> cells = row.findElements(By.tagName("td"));
-                if (cells.size() >= headers.size()) {
-                    Map<String, String> transaction = new HashMap<>();
-                    for (int i = 0; i < headers.size() && i < cells.size(); i++) {
-                        transaction.put(headers.get(i), cells.get(i).getText().trim());
-                    }
-                    transactions.add(transaction);
-                }
-            }
+    //    ("Read the transactions table in one round trip")
+    public TableData getTransactionsTable() {
+        if (snapshot != null && isTableUnchanged(snapshot, transactionsTableBody)) {
+            return snapshot;
+        }
+        waitForVisibility(transactionsTable);
+        try {
+            snapshot = readTable(transactionsTableHeader, transactionsTableBody);
+            return snapshot;
         } catch (Exception e) {
             System.err.println("Error retrieving transaction data: " + e.getMessage());
+            return TableData.empty();
         }
+    }
+
 
-        return transactions;
+    //    ("Discard the cached transactions table")
+    public void invalidateSnapshot() {
+        snapshot = null;
     }
 
 
@@ -188,21 +191,67 @@ public class TransactionsPage extends BasePage {
 
     //    ("Calculate total amount for transaction type: {transactionType}")
     public double getTotalAmountByType(String transactionType) {
-        List<Map<String, String>> transactions = getTransactionsByType(transactionType);
-        double totalAmount = 0.0;
+        TransactionType type = TransactionType.fromLabel(transactionType);
+        if (type == null) {
+            return 0.0;
+        }
+        return getTotalMinorUnitsByType(type) / 100.0;
+    }
 
-        for (Map<String, String> transaction : transactions) {
+
+    //    ("Exact total for transaction type, in minor units: {type}")
+    // Reads only the amount and type columns, so a date the store cannot parse never drops a row from the total
+    public long getTotalMinorUnitsByType(TransactionType type) {
+        TableData table = getTransactionsTable();
+        int amountColumn = table.indexOf("Amount");
+        int typeColumn = typeColumn(table);
+        if (amountColumn < 0 || typeColumn < 0) {
+            return 0;
+        }
+        List<String> amounts = table.getColumn(amountColumn);
+        List<String> types = table.getColumn(typeColumn);
+        long total = 0;
+        for (int row = 0; row < table.getRowCount(); row++) {
+            if (TransactionType.fromLabel(types.get(row)) != type) {
+                continue;
+            }
             try {
-                String amountStr = transaction.get("Amount");
-                if (amountStr != null && !amountStr.isEmpty()) {
-                    totalAmount += Double.parseDouble(amountStr);
-                }
+                total = Math.addExact(total, MoneyFormat.parseMinorUnits(amounts.get(row)));
             } catch (NumberFormatException e) {
-                System.err.println("Error parsing amount: " + transaction.get("Amount"));
+                throw new IllegalStateException("Unparseable amount in transaction row " + row + ": " + e.getMessage(), e);
             }
         }
+        return total;
+    }
+
+
+    //    ("Get typed transactions")
+    public TransactionStore getTransactionStore() {
+        TableData table = getTransactionsTable();
+        if (store != null && storeSource == table) {
+            return store;
+        }
 
-        return totalAmount;
+        int dateColumn = table.indexOf("Date-Time");
+        int amountColumn = table.indexOf("Amount");
+        int typeColumn = typeColumn(table);
+        TransactionStore.Builder builder = TransactionStore.builder(table.getRowCount());
+        if (dateColumn >= 0 && amountColumn >= 0 && typeColumn >= 0) {
+            List<String> dates = table.getColumn(dateColumn);
+            List<String> amounts = table.getColumn(amountColumn);
+            List<String> types = table.getColumn(typeColumn);
+            for (int row = 0; row < table.getRowCount(); row++) {
+                // A row left out would silently skew every count and sum, so a format drift fails here instead
+                try {
+                    builder.addRow(dates.get(row), amounts.get(row), types.get(row));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalStateException("Unparseable transaction row " + row + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        store = builder.build();
+        storeSource = table;
+        return store;
     }
 
     //    ("Check if transaction exists")
@@ -233,17 +282,20 @@ public class TransactionsPage extends BasePage {
     //    ("Wait for transactions table to load")
     public void waitForTransactionsToLoad() {
         waitForVisibility(transactionsTable);
-        try {
-            Thread.sleep(1000); // Allow time for data to load
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        waitForAngularIdle();
+        waitForRowCountToStabilise(transactionsTableBody);
     }
 
 
     //    ("Refresh transactions page")
     public void refreshTransactions() {
+        invalidateSnapshot();
         driver.navigate().refresh();
         waitForTransactionsToLoad();
     }
-}
\ No newline at end of file
+
+
+    private static int typeColumn(TableData table) {
+        return table.indexOf("Transaction Type") >= 0 ? table.indexOf("Transaction Type") : table.indexOf("Type");
+    }
+}
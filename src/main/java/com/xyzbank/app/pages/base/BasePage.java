@@ -1,43 +1,136 @@
 package com.xyzbank.app.pages.base;
 
+import com.xyzbank.app.metrics.ActionMetrics;
+import com.xyzbank.app.utils.PropertiesLoader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.Alert;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 
 public abstract class BasePage {
 
+    // True once the AngularJS app has no pending $http calls and no digest in progress
+    private static final String ANGULAR_IDLE_SCRIPT =
+            "if (!window.angular) { return true; }" +
+            "var root = document.querySelector('[ng-app]') || document.body;" +
+            "var injector = window.angular.element(root).injector();" +
+            "if (!injector) { return true; }" +
+            "if (injector.get('$http').pendingRequests.length > 0) { return false; }" +
+            "return !injector.get('$rootScope').$$phase;";
+
+    private static final String ALERT_PRESENT = "alert present";
+
+    // Sets each field the way typing or picking would (native value setter, then input and change
+    // events for Angular's ng-model), then clicks submit from a zero-delay timer so an alert raised by
+    // the submit cannot block the script's own response. Returns an error message, or null
+    private static final String FILL_AND_SUBMIT_SCRIPT =
+            "var fields = arguments[0], values = arguments[1], submit = arguments[2];" +
+            "for (var i = 0; i < fields.length; i++) {" +
+            "  var field = fields[i], value = values[i];" +
+            "  if (field.tagName === 'SELECT') {" +
+            "    var index = -1;" +
+            "    for (var o = 0; o < field.options.length; o++) {" +
+            "      if (field.options[o].text.replace(/\\s+/g, ' ').trim() === value) { index = o; break; }" +
+            "    }" +
+            "    if (index < 0) { return 'Cannot locate option with text: ' + value; }" +
+            "    field.selectedIndex = index;" +
+            "  } else {" +
+            "    var setter = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(field), 'value').set;" +
+            "    setter.call(field, value);" +
+            "    field.dispatchEvent(new Event('input', { bubbles: true }));" +
+            "  }" +
+            "  field.dispatchEvent(new Event('change', { bubbles: true }));" +
+            "}" +
+            "setTimeout(function () { submit.click(); }, 0);" +
+            "return null;";
+
     protected WebDriver driver;
     protected WebDriverWait wait;
+    protected final WaitEngine waitEngine;
+    private Duration lastSettleDuration = Duration.ZERO;
 
     public BasePage(WebDriver driver, WebDriverWait wait) {
         this.driver = driver;
         this.wait = wait;
-        PageFactory.initElements(driver, this);
+        this.waitEngine = new WaitEngine(driver, Duration.ofSeconds(
+                Long.parseLong(PropertiesLoader.getConfigProperty("explicit.wait.seconds", "20"))));
+        PageElements.initElements(driver, this); // Lazy, cached element proxies; locators resolved once per class
     }
 
 
+    // Each action below is timed by ActionMetrics: wall time, explicit-wait time and WebDriver commands
     protected WebElement waitForVisibility(WebElement element) {
-        return wait.until(ExpectedConditions.visibilityOf(element));
+        try (ActionMetrics.Action ignored = ActionMetrics.start(this, "waitForVisibility")) {
+            return ActionMetrics.timeWait(() -> waitEngine.until("visibility", ExpectedConditions.visibilityOf(element)));
+        }
     }
 
 
     protected WebElement waitForClickability(WebElement element) {
-        return wait.until(ExpectedConditions.elementToBeClickable(element));
+        try (ActionMetrics.Action ignored = ActionMetrics.start(this, "waitForClickability")) {
+            return ActionMetrics.timeWait(() -> waitEngine.until("clickability", ExpectedConditions.elementToBeClickable(element)));
+        }
     }
 
 
     protected void click(WebElement element) {
-        waitForClickability(element).click();
+        try (ActionMetrics.Action ignored = ActionMetrics.start(this, "click")) {
+            waitForClickability(element).click();
+        }
     }
 
 
     protected void type(WebElement element, String text) {
-        waitForVisibility(element).clear();
-        element.sendKeys(text);
+        try (ActionMetrics.Action ignored = ActionMetrics.start(this, "type")) {
+            waitForVisibility(element).clear();
+            element.sendKeys(text);
+        }
+    }
+
+
+    /**
+     * Fills a form and submits it in a single script call instead of a wait, clear and sendKeys per
+     * field plus a click. Select fields are matched by visible option text, like Select.selectByVisibleText.
+     * The submit goes through the browser's normal form handling, so HTML5 validation still applies.
+     * With form.fill.mode=fields, the fields are typed and selected one by one through WebDriver instead.
+     * @param fields Inputs and selects in fill order.
+     * @param values One value per field.
+     * @throws NoSuchElementException If a select has no option with the given text.
+     */
+    protected void fillAndSubmit(List<WebElement> fields, List<String> values, WebElement submit) {
+        if (fields.size() != values.size()) {
+            throw new IllegalArgumentException(fields.size() + " fields but " + values.size() + " values");
+        }
+        try (ActionMetrics.Action ignored = ActionMetrics.start(this, "fillAndSubmit")) {
+            if ("fields".equalsIgnoreCase(PropertiesLoader.getConfigProperty("form.fill.mode", "script"))) {
+                for (int i = 0; i < fields.size(); i++) {
+                    WebElement field = waitForVisibility(fields.get(i));
+                    if ("select".equalsIgnoreCase(field.getTagName())) {
+                        new Select(field).selectByVisibleText(values.get(i));
+                    } else {
+                        type(field, values.get(i));
+                    }
+                }
+                click(submit);
+                return;
+            }
+            waitForVisibility(submit); // The form has rendered
+            Object error = executeScript(FILL_AND_SUBMIT_SCRIPT, fields, values, submit);
+            if (error != null) {
+                throw new NoSuchElementException(error.toString());
+            }
+        }
     }
 
 
@@ -52,20 +145,153 @@ public abstract class BasePage {
 
 
     protected String getAlertTextAndAccept() {
-        wait.until(ExpectedConditions.alertIsPresent());
-        Alert alert = driver.switchTo().alert();
-        String alertText = alert.getText();
-        alert.accept();
-        return alertText;
+        try (ActionMetrics.Action ignored = ActionMetrics.start(this, "getAlertTextAndAccept")) {
+            ActionMetrics.timeWait(() -> waitEngine.until(ALERT_PRESENT, ExpectedConditions.alertIsPresent()));
+            Alert alert = driver.switchTo().alert();
+            String alertText = alert.getText();
+            alert.accept();
+            return alertText;
+        }
     }
 
 
+    /**
+     * Returns as soon as an alert shows, or false after the adaptive absence timeout
+     * (about as long as alerts have taken to appear so far) rather than the full explicit wait.
+     */
     public boolean isAlertPresent() {
+        return waitEngine.appearsWithin(ALERT_PRESENT, ExpectedConditions.alertIsPresent());
+    }
+
+
+    /**
+     * Negative alert check with an explicit, short window: true if no alert showed within it.
+     */
+    public boolean noAlertWithin(Duration window) {
+        return !waitEngine.appearsWithin(ALERT_PRESENT, ExpectedConditions.alertIsPresent(), window);
+    }
+
+
+    /**
+     * Reads the field's HTML5 validity.valueMissing flag, i.e. whether the browser blocked
+     * submission because this required field is empty.
+     */
+    protected boolean isValueMissing(WebElement field) {
+        return Boolean.TRUE.equals(executeScript(
+                "return !!(arguments[0].validity && arguments[0].validity.valueMissing);", field));
+    }
+
+
+    /**
+     * Absence-tolerant visibility check bounded by the adaptive absence timeout.
+     */
+    protected boolean isElementDisplayed(WebElement element) {
+        return waitEngine.appearsWithin("element displayed", d -> element.isDisplayed());
+    }
+
+
+    /**
+     * How long the most recent settle wait on this page took to return.
+     */
+    public Duration getLastSettleDuration() {
+        return lastSettleDuration;
+    }
+
+
+    protected Object executeScript(String script, Object... args) {
         try {
-            wait.until(ExpectedConditions.alertIsPresent());
-            return true;
-        } catch (Exception e) {
+            return ((JavascriptExecutor) driver).executeScript(script, args);
+        } catch (StaleElementReferenceException e) {
+            // A cached element argument was re-rendered: drop those handles and run the script once more
+            boolean invalidated = false;
+            for (Object arg : args) {
+                for (Object item : arg instanceof Collection<?> items ? items : List.of(arg)) {
+                    CachedElement cached = item instanceof WebElement element ? CachedElement.of(element) : null;
+                    if (cached != null) {
+                        cached.invalidate();
+                        invalidated = true;
+                    }
+                }
+            }
+            if (!invalidated) {
+                throw e;
+            }
+            return ((JavascriptExecutor) driver).executeScript(script, args);
+        }
+    }
+
+
+    /**
+     * Reads a whole table (header texts plus every body row) in a single script call
+     * instead of one findElements/getText round trip per row and cell.
+     */
+    protected TableData readTable(WebElement headerRow, WebElement body) {
+        return TableData.fromScriptResult(executeScript(TableData.EXTRACT_SCRIPT, headerRow, body));
+    }
+
+
+    /**
+     * Checks in one small script call whether the table body has mutated since the snapshot was read.
+     */
+    protected boolean isTableUnchanged(TableData snapshot, WebElement body) {
+        if (snapshot.getVersion() == null) {
             return false;
         }
+        try {
+            return snapshot.getVersion().equals(executeScript(TableData.VERSION_SCRIPT, body));
+        } catch (Exception e) {
+            return false; // Body gone or stale: treat as changed
+        }
+    }
+
+
+    /**
+     * Waits until the Angular app has no outstanding $http requests or digest.
+     * @return How long the wait took.
+     */
+    protected Duration waitForAngularIdle() {
+        return waitUntilSettled("Angular idle", d -> Boolean.TRUE.equals(executeScript(ANGULAR_IDLE_SCRIPT)));
+    }
+
+
+    /**
+     * Waits until two consecutive polls see the same number of rows, i.e. rendering has finished.
+     */
+    protected Duration waitForRowCountToStabilise(WebElement tableBody) {
+        int[] lastCount = {-1};
+        return waitUntilSettled("row count stable", d -> {
+            int count = countRows(tableBody);
+            boolean stable = count == lastCount[0];
+            lastCount[0] = count;
+            return stable;
+        });
+    }
+
+
+    /**
+     * Polls the condition with adaptive backoff and returns as soon as it holds.
+     * Unlike the explicit wait this never fails the step: it is used where the old code
+     * slept for a fixed time, so a condition that never fires costs at most the settle timeout.
+     * @return How long the wait took; also available through {@link #getLastSettleDuration()}.
+     */
+    protected Duration waitUntilSettled(String description, ExpectedCondition<Boolean> condition) {
+        long start = System.nanoTime();
+        try {
+            waitEngine.until(description, condition, getSettleTimeout());
+        } catch (TimeoutException e) {
+            System.err.println("UI did not settle (" + description + ") within " + getSettleTimeout().toMillis() + " ms");
+        }
+        lastSettleDuration = Duration.ofNanos(System.nanoTime() - start);
+        return lastSettleDuration;
+    }
+
+
+    private static Duration getSettleTimeout() {
+        return Duration.ofMillis(Long.parseLong(PropertiesLoader.getConfigProperty("settle.timeout.millis", "5000")));
+    }
+
+
+    private static int countRows(WebElement tableBody) {
+        return tableBody.findElements(By.tagName("tr")).size();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,132 @@
+package com.xyzbank.app.pages.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A located element kept between uses. The handle is resolved on first use and reused; when Angular
+ * re-renders the element (e.g. ng-switch between the deposit and withdrawal forms), the command on
+ * the old handle fails with StaleElementReferenceException, which is the staleness check itself:
+ * the handle is re-resolved and the command retried once, without an extra probe per use.
+ *
+ * Every page element field set up by {@link PageElements} is backed by one of these;
+ * {@link #of(WebElement)} gives access to it. Hits, misses and stale re-resolutions are counted
+ * per handle and in total.
+ */
+public final class CachedElement {
+
+    private static final LongAdder TOTAL_HITS = new LongAdder();
+    private static final LongAdder TOTAL_MISSES = new LongAdder();
+    private static final LongAdder TOTAL_STALE = new LongAdder();
+
+    private final SearchContext searchContext;
+    private final By by;
+    private WebElement element;
+    private long hits;
+    private long misses;
+    private long staleResolutions;
+
+    public CachedElement(SearchContext searchContext, By by) {
+        this.searchContext = searchContext;
+        this.by = by;
+    }
+
+
+    /**
+     * The handle behind a page element field, or null if the element is not a cached proxy.
+     */
+    public static CachedElement of(WebElement element) {
+        if (element != null && Proxy.isProxyClass(element.getClass())
+                && Proxy.getInvocationHandler(element) instanceof PageElements.CachingElementHandler handler) {
+            return handler.getCachedElement();
+        }
+        return null;
+    }
+
+
+    /**
+     * The current handle, located now if there is none (a miss) or reused as is (a hit).
+     * @throws org.openqa.selenium.NoSuchElementException If the element is not on the page.
+     */
+    public WebElement get() {
+        if (element != null) {
+            hits++;
+            TOTAL_HITS.increment();
+            return element;
+        }
+        misses++;
+        TOTAL_MISSES.increment();
+        element = searchContext.findElement(by);
+        return element;
+    }
+
+
+    /**
+     * Runs the action on the handle; if the handle went stale, re-resolves it and runs the action once more.
+     */
+    public <T> T apply(Function<WebElement, T> action) {
+        try {
+            return action.apply(get());
+        } catch (StaleElementReferenceException e) {
+            invalidate();
+            staleResolutions++;
+            TOTAL_STALE.increment();
+            return action.apply(get());
+        }
+    }
+
+
+    /**
+     * Drops the handle so the next use locates the element again.
+     */
+    public void invalidate() {
+        element = null;
+    }
+
+
+    public By getBy() {
+        return by;
+    }
+
+
+    public long getHits() {
+        return hits;
+    }
+
+
+    public long getMisses() {
+        return misses;
+    }
+
+
+    public long getStaleResolutions() {
+        return staleResolutions;
+    }
+
+
+    public static long getTotalHits() {
+        return TOTAL_HITS.sum();
+    }
+
+
+    public static long getTotalMisses() {
+        return TOTAL_MISSES.sum();
+    }
+
+
+    public static long getTotalStaleResolutions() {
+        return TOTAL_STALE.sum();
+    }
+
+
+    @Override
+    public String toString() {
+        return "Cached element for: " + by;
+    }
+}
@@ -0,0 +1,151 @@
+package com.xyzbank.app.pages.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.Annotations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drop-in replacement for PageFactory.initElements used by BasePage.
+ *
+ * The @FindBy/@FindBys/@FindAll fields of a page class and their locators are worked out once
+ * per class (cached in a ClassValue), so constructing a page object on every navigation costs
+ * no annotation scanning, only one proxy per field. Each proxy finds its element on first use
+ * and keeps the handle until the element goes stale, instead of issuing findElement before
+ * every call as PageFactory's proxies do. List fields are located afresh on each use.
+ */
+public final class PageElements {
+
+    private static final ClassValue<List<ElementField>> FIELDS = new ClassValue<>() {
+        @Override
+        protected List<ElementField> computeValue(Class<?> pageClass) {
+            return scan(pageClass);
+        }
+    };
+
+    private static final Class<?>[] ELEMENT_INTERFACES = {WebElement.class, WrapsElement.class, Locatable.class};
+
+    private record ElementField(Field field, By by, boolean list) {
+    }
+
+    private PageElements() {
+    }
+
+
+    /**
+     * Sets every annotated WebElement and List&lt;WebElement&gt; field of the page to a lazy proxy.
+     */
+    public static void initElements(SearchContext searchContext, Object page) {
+        for (ElementField element : FIELDS.get(page.getClass())) {
+            Object proxy = element.list()
+                    ? listProxy(searchContext, element.by())
+                    : elementProxy(searchContext, element.by());
+            try {
+                element.field().set(page, proxy);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot initialise " + element.field(), e);
+            }
+        }
+    }
+
+
+    /**
+     * Number of element fields found on the class; scanning happens at most once per class.
+     */
+    public static int countElementFields(Class<?> pageClass) {
+        return FIELDS.get(pageClass).size();
+    }
+
+
+    private static List<ElementField> scan(Class<?> pageClass) {
+        List<ElementField> fields = new ArrayList<>();
+        for (Class<?> type = pageClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!field.isAnnotationPresent(FindBy.class) && !field.isAnnotationPresent(FindBys.class)
+                        && !field.isAnnotationPresent(FindAll.class)) {
+                    continue;
+                }
+                boolean list = List.class.isAssignableFrom(field.getType());
+                if (!list && !WebElement.class.isAssignableFrom(field.getType())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                fields.add(new ElementField(field, new Annotations(field).buildBy(), list));
+            }
+        }
+        return List.copyOf(fields);
+    }
+
+
+    private static WebElement elementProxy(SearchContext searchContext, By by) {
+        return (WebElement) Proxy.newProxyInstance(PageElements.class.getClassLoader(), ELEMENT_INTERFACES,
+                new CachingElementHandler(searchContext, by));
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private static List<WebElement> listProxy(SearchContext searchContext, By by) {
+        return (List<WebElement>) Proxy.newProxyInstance(PageElements.class.getClassLoader(), new Class<?>[]{List.class},
+                (proxy, method, args) -> invoke(searchContext.findElements(by), method, args));
+    }
+
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+
+    // Element proxy over a CachedElement: found on first use, reused until stale
+    static final class CachingElementHandler implements InvocationHandler {
+
+        private final CachedElement cachedElement;
+
+        private CachingElementHandler(SearchContext searchContext, By by) {
+            this.cachedElement = new CachedElement(searchContext, by);
+        }
+
+        CachedElement getCachedElement() {
+            return cachedElement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
+                return "Proxy element for: " + cachedElement.getBy();
+            }
+            if ("getWrappedElement".equals(method.getName())) {
+                return cachedElement.get();
+            }
+            return cachedElement.apply(element -> {
+                try {
+                    return method.invoke(element, args);
+                } catch (InvocationTargetException e) {
+                    // Rethrown as is, so a StaleElementReferenceException reaches CachedElement
+                    if (e.getCause() instanceof RuntimeException failure) {
+                        throw failure;
+                    }
+                    throw new IllegalStateException(e.getCause());
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.xyzbank.app.pages.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, column-oriented copy of an HTML table read in a single script call.
+ * Cell text is stored per column so lookups never go back to the browser.
+ */
+public final class TableData {
+
+    // Tags the body with a mutation counter; the version changes whenever its rows or text change
+    // and disappears if Angular replaces the element, so a cached copy can be validated cheaply
+    private static final String TRACK_MUTATIONS =
+            "if (!body.__xyzVersion) {" +
+            "  body.__xyzVersion = { id: Math.random().toString(36).slice(2), count: 0 };" +
+            "  new MutationObserver(function () { body.__xyzVersion.count++; })" +
+            "    .observe(body, { childList: true, subtree: true, characterData: true });" +
+            "}";
+
+    static final String VERSION_SCRIPT =
+            "var version = arguments[0].__xyzVersion;" +
+            "return version ? version.id + ':' + version.count : null;";
+
+    // Reads header and body text in one round trip; rows with fewer cells than headers are skipped
+    static final String EXTRACT_SCRIPT =
+            "var headerRow = arguments[0], body = arguments[1];" +
+            TRACK_MUTATIONS +
+            "var headers = [];" +
+            "if (headerRow) { for (var h = 0; h < headerRow.cells.length; h++) {" +
+            "  headers.push(headerRow.cells[h].innerText.trim()); } }" +
+            "var columns = headers.map(function () { return []; });" +
+            "var rows = 0;" +
+            "for (var r = 0; r < body.rows.length; r++) {" +
+            "  var cells = body.rows[r].cells;" +
+            "  if (cells.length < headers.length) { continue; }" +
+            "  for (var c = 0; c < headers.length; c++) { columns[c].push(cells[c].innerText.trim()); }" +
+            "  rows++;" +
+            "}" +
+            "return { headers: headers, columns: columns, rows: rows," +
+            "  version: body.__xyzVersion.id + ':' + body.__xyzVersion.count };";
+
+    private static final TableData EMPTY = new TableData(List.of(), List.of(), 0, null);
+
+    private final List<String> headers;
+    private final List<List<String>> columns;
+    private final int rowCount;
+    private final String version;
+
+    private TableData(List<String> headers, List<List<String>> columns, int rowCount, String version) {
+        this.headers = headers;
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.version = version;
+    }
+
+
+    public static TableData empty() {
+        return EMPTY;
+    }
+
+
+    /**
+     * Table built from row-oriented values, e.g. for data that did not come from the page.
+     * It has no DOM version, so it never counts as unchanged against a live table.
+     */
+    public static TableData of(List<String> headers, List<List<String>> rows) {
+        List<List<String>> columns = new ArrayList<>();
+        for (int c = 0; c < headers.size(); c++) {
+            List<String> column = new ArrayList<>(rows.size());
+            for (List<String> row : rows) {
+                column.add(row.get(c));
+            }
+            columns.add(List.copyOf(column));
+        }
+        return new TableData(List.copyOf(headers), Collections.unmodifiableList(columns), rows.size(), null);
+    }
+
+
+    @SuppressWarnings("unchecked")
+    static TableData fromScriptResult(Object result) {
+        if (!(result instanceof Map)) {
+            return EMPTY;
+        }
+        Map<String, Object> map = (Map<String, Object>) result;
+        List<String> headers = List.copyOf((List<String>) map.get("headers"));
+        List<List<String>> columns = new ArrayList<>();
+        for (Object column : (List<Object>) map.get("columns")) {
+            columns.add(List.copyOf((List<String>) column));
+        }
+        int rowCount = ((Number) map.get("rows")).intValue();
+        return new TableData(headers, Collections.unmodifiableList(columns), rowCount, (String) map.get("version"));
+    }
+
+
+    /**
+     * DOM mutation version of the table body at the time it was read, or null if unknown.
+     */
+    String getVersion() {
+        return version;
+    }
+
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+
+    public boolean isEmpty() {
+        return rowCount == 0;
+    }
+
+
+    /**
+     * @return Position of the header, or -1 if the table has no such column.
+     */
+    public int indexOf(String header) {
+        return headers.indexOf(header);
+    }
+
+
+    public List<String> getColumn(int columnIndex) {
+        return columns.get(columnIndex);
+    }
+
+
+    public List<String> getColumn(String header) {
+        int index = indexOf(header);
+        return index < 0 ? List.of() : columns.get(index);
+    }
+
+
+    public String getCell(int row, int columnIndex) {
+        return columns.get(columnIndex).get(row);
+    }
+
+
+    public String getCell(int row, String header) {
+        int index = indexOf(header);
+        return index < 0 ? null : columns.get(index).get(row);
+    }
+
+
+    public Map<String, String> getRow(int row) {
+        Map<String, String> values = new HashMap<>();
+        for (int c = 0; c < headers.size(); c++) {
+            values.put(headers.get(c), columns.get(c).get(row));
+        }
+        return values;
+    }
+
+
+    public List<Map<String, String>> toRowMaps() {
+        List<Map<String, String>> rows = new ArrayList<>(rowCount);
+        for (int r = 0; r < rowCount; r++) {
+            rows.add(getRow(r));
+        }
+        return rows;
+    }
+}
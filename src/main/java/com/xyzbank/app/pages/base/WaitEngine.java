@@ -0,0 +1,135 @@
+package com.xyzbank.app.pages.base;
+
+import com.xyzbank.app.metrics.LatencyHistogram;
+import com.xyzbank.app.utils.PropertiesLoader;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The one wait used by the page objects, replacing implicit wait plus WebDriverWait.
+ *
+ * Polling starts tight and backs off (wait.poll.initial.millis growing 1.5x per miss up to
+ * wait.poll.max.millis), so fast conditions return within milliseconds without hammering the
+ * browser on slow ones. Every successful wait is recorded per description; absence checks
+ * ({@link #appearsWithin}) then only wait about as long as that condition has been seen to take
+ * (twice its observed p99, between wait.absence.floor.millis and wait.absence.timeout.millis),
+ * instead of the full explicit timeout.
+ */
+public class WaitEngine {
+
+    private static final Map<String, LatencyHistogram> OBSERVED = new ConcurrentHashMap<>();
+    private static final int MIN_OBSERVATIONS = 5;
+
+    private final WebDriver driver;
+    private final Duration timeout;
+
+    public WaitEngine(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+
+    /**
+     * Waits for the condition to return a non-null, non-false value within the explicit timeout.
+     * @throws TimeoutException If it never does.
+     */
+    public <T> T until(String description, Function<? super WebDriver, T> condition) {
+        return until(description, condition, timeout);
+    }
+
+
+    public <T> T until(String description, Function<? super WebDriver, T> condition, Duration limit) {
+        long start = System.nanoTime();
+        long deadline = start + limit.toNanos();
+        long pollMillis = setting("wait.poll.initial.millis", 10);
+        long maxPollMillis = setting("wait.poll.max.millis", 250);
+        RuntimeException lastError = null;
+
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    OBSERVED.computeIfAbsent(description, key -> new LatencyHistogram()).record(System.nanoTime() - start);
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                throw new TimeoutException("Expected condition failed: waiting for " + description
+                        + " (tried for " + limit.toMillis() + " ms with adaptive polling)", lastError);
+            }
+            sleep(Math.min(pollMillis, remainingMillis));
+            pollMillis = Math.min(maxPollMillis, Math.max(pollMillis + 1, pollMillis * 3 / 2));
+        }
+    }
+
+
+    /**
+     * Absence-tolerant check: true as soon as the condition holds, false once the absence timeout
+     * for this description passes. Never throws for a condition that simply does not hold.
+     */
+    public boolean appearsWithin(String description, Function<? super WebDriver, ?> condition) {
+        return appearsWithin(description, condition, getAbsenceTimeout(description));
+    }
+
+
+    /**
+     * Same as {@link #appearsWithin(String, Function)} with a caller-chosen window.
+     */
+    public boolean appearsWithin(String description, Function<? super WebDriver, ?> condition, Duration window) {
+        try {
+            until(description, condition, window);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+
+    /**
+     * How long an absence check for the description waits, given the timings observed so far.
+     */
+    public static Duration getAbsenceTimeout(String description) {
+        long cap = setting("wait.absence.timeout.millis", 1000);
+        long floor = Math.min(cap, setting("wait.absence.floor.millis", 100));
+        LatencyHistogram observed = OBSERVED.get(description);
+        if (observed == null || observed.getCount() < MIN_OBSERVATIONS) {
+            return Duration.ofMillis(cap);
+        }
+        long adaptive = 2 * observed.getValueAtPercentile(99) / 1_000_000;
+        return Duration.ofMillis(Math.max(floor, Math.min(cap, adaptive)));
+    }
+
+
+    /**
+     * Time-to-condition per wait description, for reporting.
+     */
+    public static Map<String, LatencyHistogram> getObservedTimings() {
+        return Map.copyOf(OBSERVED);
+    }
+
+
+    private static long setting(String key, long defaultValue) {
+        return Long.parseLong(PropertiesLoader.getConfigProperty(key, String.valueOf(defaultValue)));
+    }
+
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting", e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.xyzbank.app.utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Resolves each browser's driver binary once per JVM, so starting a session only costs the browser launch.
+ *
+ * Lookup order, first hit wins:
+ *   1. webdriver.*.driver system property pointing at an existing file
+ *   2. driver.path.<browser> from config
+ *   3. the on-disk cache (driver.cache.dir, WebDriverManager's layout), newest or pinned version
+ *   4. the binary on PATH
+ *   5. WebDriverManager download into driver.cache.dir, skipped when driver.offline=true
+ *
+ * Versions are pinned with driver.version.<browser>; an empty value accepts any cached version.
+ */
+public final class DriverBinaryResolver {
+
+    public record Resolution(String browser, String driverPath, String version, String source, long nanos) {
+
+        public long millis() {
+            return nanos / 1_000_000;
+        }
+    }
+
+    private static final Map<String, Resolution> RESOLVED = new ConcurrentHashMap<>();
+
+    // Private constructor to prevent instantiation
+    private DriverBinaryResolver() {
+    }
+
+
+    /**
+     * Returns the driver binary for the browser, resolving it on first use only.
+     * Safari ships its own driver and always resolves to a null path.
+     */
+    public static Resolution resolve(String browserName) {
+        return RESOLVED.computeIfAbsent(browserName.toLowerCase(), DriverBinaryResolver::lookup);
+    }
+
+
+    /**
+     * Resolutions made so far, keyed by browser, for reporting.
+     */
+    public static Map<String, Resolution> getResolutions() {
+        return Map.copyOf(RESOLVED);
+    }
+
+
+    private static Resolution lookup(String browser) {
+        long start = System.nanoTime();
+        String property = systemProperty(browser);
+        if (property == null) {
+            return new Resolution(browser, null, null, "bundled", System.nanoTime() - start);
+        }
+
+        String binary = binaryName(browser);
+        String pinned = PropertiesLoader.getConfigProperty("driver.version." + browser, "").trim();
+        String configuredCache = PropertiesLoader.getConfigProperty("driver.cache.dir", "").trim();
+        Path cacheDir = configuredCache.isEmpty()
+                ? Paths.get(System.getProperty("user.home"), ".cache", "selenium")
+                : Paths.get(configuredCache);
+
+        String source;
+        Path path;
+        if ((path = existing(System.getProperty(property))) != null) {
+            source = "system property";
+        } else if ((path = existing(PropertiesLoader.getConfigProperty("driver.path." + browser, ""))) != null) {
+            source = "config";
+        } else if ((path = findCached(cacheDir.resolve(binary), binary, pinned)) != null) {
+            source = "cache";
+        } else if (pinned.isEmpty() && (path = findOnPath(binary)) != null) {
+            source = "PATH";
+        } else if (Boolean.parseBoolean(PropertiesLoader.getConfigProperty("driver.offline", "false"))) {
+            throw new IllegalStateException("No cached " + binary + (pinned.isEmpty() ? "" : " " + pinned)
+                    + " under " + cacheDir + " and driver.offline=true");
+        } else {
+            path = download(browser, cacheDir, pinned);
+            source = "download";
+        }
+
+        System.setProperty(property, path.toString());
+        Resolution resolution = new Resolution(browser, path.toString(), versionOf(path), source, System.nanoTime() - start);
+        System.out.println("Resolved " + binary + " " + Optional.ofNullable(resolution.version()).orElse("")
+                + " from " + source + " in " + resolution.millis() + " ms");
+        return resolution;
+    }
+
+
+    private static Path download(String browser, Path cacheDir, String pinned) {
+        WebDriverManager manager = switch (browser) {
+            case "chrome" -> WebDriverManager.chromedriver();
+            case "firefox" -> WebDriverManager.firefoxdriver();
+            case "edge" -> WebDriverManager.edgedriver();
+            default -> throw new IllegalArgumentException("Unsupported browser: " + browser);
+        };
+        manager.cachePath(cacheDir.toString());
+        if (!pinned.isEmpty()) {
+            manager.driverVersion(pinned);
+        }
+        manager.setup();
+        return Paths.get(manager.getDownloadedDriverPath());
+    }
+
+
+    // WebDriverManager caches as <cache>/<binary>/<os>/<version>/<binary>
+    private static Path findCached(Path root, String binary, String pinned) {
+        if (!Files.isDirectory(root)) {
+            return null;
+        }
+        try (Stream<Path> paths = Files.walk(root, 4)) {
+            return paths.filter(path -> isBinary(path, binary))
+                    .filter(path -> pinned.isEmpty() || pinned.equals(versionOf(path)))
+                    .max(Comparator.comparing(DriverBinaryResolver::versionOf, DriverBinaryResolver::compareVersions))
+                    .orElse(null);
+        } catch (IOException e) {
+            System.err.println("Could not scan driver cache " + root + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+
+    private static Path findOnPath(String binary) {
+        String pathVariable = System.getenv("PATH");
+        if (pathVariable == null) {
+            return null;
+        }
+        for (String dir : pathVariable.split(File.pathSeparator)) {
+            if (dir.isEmpty()) {
+                continue;
+            }
+            for (String name : new String[]{binary, binary + ".exe"}) {
+                Path candidate = Paths.get(dir, name);
+                if (isBinary(candidate, binary)) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+
+    private static boolean isBinary(Path path, String binary) {
+        String name = path.getFileName().toString();
+        return (name.equals(binary) || name.equals(binary + ".exe")) && Files.isRegularFile(path) && Files.isExecutable(path);
+    }
+
+
+    private static Path existing(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        Path path = Paths.get(location.trim());
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+
+    // The version is the name of the binary's folder in the cache layout; null elsewhere
+    private static String versionOf(Path path) {
+        Path parent = path.getParent();
+        String name = parent == null ? "" : parent.getFileName().toString();
+        return name.matches("\\d+(\\.\\d+)*") ? name : null;
+    }
+
+
+    private static int compareVersions(String left, String right) {
+        if (left == null || right == null) {
+            return left == null ? (right == null ? 0 : -1) : 1;
+        }
+        String[] a = left.split("\\.");
+        String[] b = right.split("\\.");
+        for (int i = 0; i < Math.max(a.length, b.length); i++) {
+            long x = i < a.length ? Long.parseLong(a[i]) : 0;
+            long y = i < b.length ? Long.parseLong(b[i]) : 0;
+            if (x != y) {
+                return Long.compare(x, y);
+            }
+        }
+        return 0;
+    }
+
+
+    private static String systemProperty(String browser) {
+        return switch (browser) {
+            case "chrome" -> "webdriver.chrome.driver";
+            case "firefox" -> "webdriver.gecko.driver";
+            case "edge" -> "webdriver.edge.driver";
+            case "safari" -> null;
+            default -> throw new IllegalArgumentException("Unsupported browser: " + browser);
+        };
+    }
+
+
+    private static String binaryName(String browser) {
+        return switch (browser) {
+            case "chrome" -> "chromedriver";
+            case "firefox" -> "geckodriver";
+            default -> "msedgedriver";
+        };
+    }
+}
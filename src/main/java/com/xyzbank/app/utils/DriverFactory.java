@@ -1,48 +1,87 @@
 package com.xyzbank.app.utils;
 
+import com.xyzbank.app.metrics.ActionMetrics;
+import com.xyzbank.app.metrics.CommandCountingListener;
+import com.xyzbank.app.metrics.CommandTracer;
+import org.openqa.selenium.Dimension;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.safari.SafariDriver;
-import org.openqa.selenium.safari.SafariOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 public class DriverFactory {
 
     public static WebDriver getNewDriver(String browserName) {
         WebDriver driver;
+        // Resolved once per JVM, so the timing below is the browser launch alone
+        DriverBinaryResolver.resolve(browserName);
 
-        switch (browserName.toLowerCase()) {
-            case "chrome":
-                io.github.bonigarcia.wdm.WebDriverManager.chromedriver().setup(); // Use fully qualified name
-                driver = new ChromeDriver();
-                ChromeOptions chromeOptions = new ChromeOptions();
-                chromeOptions.addArguments("--headless=new"); // For newer Chrome versions
-                chromeOptions.addArguments("--no-sandbox");
+        // Safari cannot take a profile directory
+        String browser = browserName.toLowerCase();
+        Path profile = "safari".equals(browser) ? null : DriverOptionsFactory.newProfileDir();
+
+        // Launch time goes to the metrics export (DriverFactory / "start <browser>") instead of the console
+        try (ActionMetrics.Action ignored = ActionMetrics.start(DriverFactory.class, "start " + browser)) {
+            driver = launch(browser, profile);
+        } catch (RuntimeException e) {
+            if (profile != null) {
+                DriverOptionsFactory.deleteProfile(profile);
+            }
+            throw e;
+        }
 
+        // Count (and with trace.commands, time and attribute) commands; the decorated driver keeps every interface of the original
+        List<WebDriverListener> listeners = new ArrayList<>();
+        if (CommandTracer.isEnabled()) {
+            listeners.add(new CommandTracer());
+        } else if (ActionMetrics.isEnabled()) {
+            listeners.add(new CommandCountingListener());
+        }
+        // The profile goes with its session, so a long run never piles up dead profiles
+        if (profile != null) {
+            listeners.add(new ProfileCleanupListener(profile));
+        }
+        if (!listeners.isEmpty()) {
+            driver = new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
+        }
+        return driver;
+    }
+
+
+    private static WebDriver launch(String browser, Path profile) {
+        WebDriver driver;
+        // Options are built first and passed to the constructor, otherwise they never take effect
+        switch (browser) {
+            case "chrome":
+                driver = new ChromeDriver(DriverOptionsFactory.chromeOptions(profile));
                 break;
             case "firefox":
-                io.github.bonigarcia.wdm.WebDriverManager.firefoxdriver().setup(); // Use fully qualified name
-                driver = new FirefoxDriver();
-                FirefoxOptions firefoxOptions  = new FirefoxOptions ();
-                firefoxOptions .addArguments("--headless=new"); // For newer Chrome versions
-                firefoxOptions .addArguments("--no-sandbox");
+                driver = new FirefoxDriver(DriverOptionsFactory.firefoxOptions(profile));
                 break;
             case "edge":
-                io.github.bonigarcia.wdm.WebDriverManager.edgedriver().setup(); // Use fully qualified name
-                driver = new EdgeDriver();
-                EdgeOptions edgeOptions = new EdgeOptions();
-                edgeOptions.addArguments("--headless=new"); // For newer Chrome versions
-                edgeOptions.addArguments("--no-sandbox");
+                driver = new EdgeDriver(DriverOptionsFactory.edgeOptions(profile));
+                break;
+            case "safari":
+                driver = new SafariDriver(DriverOptionsFactory.safariOptions());
                 break;
             default:
-                throw new IllegalArgumentException("Unsupported browser: " + browserName);
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+
+        // Headless sessions already got a fixed size through their arguments
+        int[] size = DriverOptionsFactory.getWindowSize();
+        if (size == null) {
+            driver.manage().window().maximize();
+        } else if (!DriverOptionsFactory.isHeadless()) {
+            driver.manage().window().setSize(new Dimension(size[0], size[1]));
         }
-        driver.manage().window().maximize();
         return driver;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,190 @@
+package com.xyzbank.app.utils;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.safari.SafariOptions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Builds per-browser options from config.properties so sessions start lean and fast.
+ *
+ * Keys (all overridable with -D):
+ *   headless                    run without a window (default true)
+ *   browser.window.size         fixed viewport, e.g. 1920,1080
+ *   browser.page.load.strategy  normal | eager | none (default eager)
+ *   browser.disable.images      skip image loading (default true)
+ *   browser.disable.extensions  (default true)
+ *   browser.disable.gpu         disable GPU compositing (default true)
+ *   browser.profile.dir         parent for throwaway profiles, deleted when their browser quits; empty for the browser default
+ *   browser.extra.args          extra space-separated browser arguments
+ */
+public class DriverOptionsFactory {
+
+    // Private constructor to prevent instantiation
+    private DriverOptionsFactory() {
+    }
+
+
+    public static boolean isHeadless() {
+        return Boolean.parseBoolean(PropertiesLoader.getConfigProperty("headless", "true"));
+    }
+
+
+    /**
+     * Window size as {width, height}, or null to maximise a headed window instead.
+     */
+    public static int[] getWindowSize() {
+        String size = PropertiesLoader.getConfigProperty("browser.window.size", "1920,1080").trim();
+        if (size.isEmpty() || "maximize".equalsIgnoreCase(size)) {
+            return null;
+        }
+        String[] parts = size.split("[,x]");
+        return new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())};
+    }
+
+
+    /**
+     * Identifies the effective option set, so sessions started with different options are never mixed.
+     */
+    public static String fingerprint(String browserName) {
+        return browserName.toLowerCase()
+                + "|headless=" + isHeadless()
+                + "|window=" + PropertiesLoader.getConfigProperty("browser.window.size", "1920,1080")
+                + "|load=" + getPageLoadStrategy()
+                + "|images=" + !flag("browser.disable.images")
+                + "|extensions=" + !flag("browser.disable.extensions")
+                + "|gpu=" + !flag("browser.disable.gpu")
+                + "|args=" + PropertiesLoader.getConfigProperty("browser.extra.args", "");
+    }
+
+
+    /**
+     * @param profile Profile directory from {@link #newProfileDir()}, or null for the browser default.
+     */
+    public static ChromeOptions chromeOptions(Path profile) {
+        return applyChromium(new ChromeOptions(), profile);
+    }
+
+
+    public static EdgeOptions edgeOptions(Path profile) {
+        return applyChromium(new EdgeOptions(), profile);
+    }
+
+
+    public static FirefoxOptions firefoxOptions(Path profile) {
+        FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(getPageLoadStrategy());
+        if (isHeadless()) {
+            options.addArguments("-headless");
+        }
+        int[] size = getWindowSize();
+        if (size != null) {
+            options.addArguments("--width=" + size[0], "--height=" + size[1]);
+        }
+        if (flag("browser.disable.images")) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        if (flag("browser.disable.extensions")) {
+            options.addPreference("extensions.enabledScopes", 0);
+        }
+        if (flag("browser.disable.gpu")) {
+            options.addPreference("layers.acceleration.disabled", true);
+        }
+        if (profile != null) {
+            options.addArguments("-profile", profile.toString());
+        }
+        options.addArguments(extraArgs());
+        return options;
+    }
+
+
+    public static SafariOptions safariOptions() {
+        SafariOptions options = new SafariOptions();
+        options.setPageLoadStrategy(getPageLoadStrategy());
+        return options;
+    }
+
+
+    private static <T extends ChromiumOptions<T>> T applyChromium(T options, Path profile) {
+        options.setPageLoadStrategy(getPageLoadStrategy());
+        if (isHeadless()) {
+            options.addArguments("--headless=new");
+        }
+        options.addArguments("--no-sandbox", "--disable-dev-shm-usage", "--no-first-run", "--no-default-browser-check");
+        int[] size = getWindowSize();
+        if (size != null) {
+            options.addArguments("--window-size=" + size[0] + "," + size[1]);
+        }
+        if (flag("browser.disable.images")) {
+            options.addArguments("--blink-settings=imagesEnabled=false");
+            options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        }
+        if (flag("browser.disable.extensions")) {
+            options.addArguments("--disable-extensions");
+        }
+        if (flag("browser.disable.gpu")) {
+            options.addArguments("--disable-gpu");
+        }
+        if (profile != null) {
+            options.addArguments("--user-data-dir=" + profile);
+        }
+        options.addArguments(extraArgs());
+        return options;
+    }
+
+
+    private static PageLoadStrategy getPageLoadStrategy() {
+        String strategy = PropertiesLoader.getConfigProperty("browser.page.load.strategy", "eager");
+        return PageLoadStrategy.fromString(strategy.toLowerCase());
+    }
+
+
+    private static boolean flag(String key) {
+        return Boolean.parseBoolean(PropertiesLoader.getConfigProperty(key, "true"));
+    }
+
+
+    private static List<String> extraArgs() {
+        String args = PropertiesLoader.getConfigProperty("browser.extra.args", "").trim();
+        return args.isEmpty() ? List.of() : List.of(args.split("\\s+"));
+    }
+
+
+    /**
+     * Creates a throwaway profile directory for one session under browser.profile.dir.
+     * The caller deletes it with {@link #deleteProfile(Path)} once that browser has quit.
+     * @return The directory, or null when no parent is configured (or it is missing).
+     */
+    public static Path newProfileDir() {
+        String parent = PropertiesLoader.getConfigProperty("browser.profile.dir", "").trim();
+        if (parent.isEmpty() || !Files.isDirectory(Paths.get(parent))) {
+            return null;
+        }
+        try {
+            return Files.createTempDirectory(Paths.get(parent), "xyzbank-profile-");
+        } catch (IOException e) {
+            System.err.println("Could not create browser profile under " + parent + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+
+    public static void deleteProfile(Path profile) {
+        try (Stream<Path> paths = Files.walk(profile)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("Could not delete browser profile " + profile + ": " + e.getMessage());
+        }
+    }
+}
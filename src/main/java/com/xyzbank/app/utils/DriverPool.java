@@ -0,0 +1,247 @@
+package com.xyzbank.app.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, thread-safe pool of warm WebDriver sessions.
+ * Sessions are keyed by browser name and options, reset between leases
+ * (cookies, storage, back to base.url) and health-checked before reuse.
+ * Broken sessions are evicted and replaced on demand.
+ */
+public class DriverPool {
+
+    private static volatile DriverPool instance;
+
+    private final int maxSize;
+    private final Map<String, Deque<WebDriver>> idle = new HashMap<>();
+    private final Map<WebDriver, String> leased = new IdentityHashMap<>();
+    private int liveCount;
+
+    DriverPool(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Driver pool size must be at least 1, was " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+
+    public static DriverPool getInstance() {
+        if (instance == null) {
+            synchronized (DriverPool.class) {
+                if (instance == null) {
+                    // Never size the pool below the number of parallel test workers
+                    int size = Math.max(
+                            Integer.parseInt(PropertiesLoader.getConfigProperty("driver.pool.max.size", "4")),
+                            Integer.parseInt(PropertiesLoader.getConfigProperty("parallel.workers", "1")));
+                    DriverPool pool = new DriverPool(size);
+                    Runtime.getRuntime().addShutdownHook(new Thread(pool::shutdown, "driver-pool-shutdown"));
+                    instance = pool;
+                }
+            }
+        }
+        return instance;
+    }
+
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(PropertiesLoader.getConfigProperty("driver.pool.enabled", "true"));
+    }
+
+
+    /**
+     * Leases a session for the given browser, positioned on base.url.
+     * Reuses an idle session with the same key when one is available, otherwise
+     * starts a new browser, blocking while the pool is at capacity.
+     */
+    public WebDriver lease(String browserName) {
+        String key = keyFor(browserName);
+        while (true) {
+            WebDriver candidate = null;
+            WebDriver victim = null;
+            synchronized (this) {
+                while (candidate == null) {
+                    Deque<WebDriver> sessions = idle.get(key);
+                    if (sessions != null && !sessions.isEmpty()) {
+                        candidate = sessions.pollFirst();
+                    } else if (liveCount < maxSize) {
+                        liveCount++;
+                        break;
+                    } else if ((victim = takeIdleSession()) != null) {
+                        // Its slot passes straight to this lease; the browser is quit below, outside the lock
+                        break;
+                    } else {
+                        awaitRelease();
+                    }
+                }
+            }
+
+            if (victim != null) {
+                quitQuietly(victim);
+            }
+            if (candidate == null) {
+                return startSession(browserName, key);
+            }
+            if (isHealthy(candidate)) {
+                synchronized (this) {
+                    leased.put(candidate, key);
+                }
+                return candidate;
+            }
+            discard(candidate);
+        }
+    }
+
+
+    /**
+     * Returns a leased session to the pool after resetting it. Sessions that
+     * fail to reset are quit instead of being handed to the next test.
+     */
+    public void release(WebDriver driver) {
+        String key;
+        synchronized (this) {
+            key = leased.remove(driver);
+        }
+        if (key == null) {
+            throw new IllegalStateException("Driver was not leased from this pool");
+        }
+
+        if (reset(driver)) {
+            synchronized (this) {
+                idle.computeIfAbsent(key, k -> new ArrayDeque<>()).addLast(driver);
+                notifyAll();
+            }
+        } else {
+            discard(driver);
+        }
+    }
+
+
+    public synchronized int getLiveCount() {
+        return liveCount;
+    }
+
+
+    public void shutdown() {
+        Map<WebDriver, String> all = new IdentityHashMap<>();
+        synchronized (this) {
+            idle.values().forEach(sessions -> sessions.forEach(d -> all.put(d, "")));
+            all.putAll(leased);
+            idle.clear();
+            leased.clear();
+            liveCount = 0;
+            notifyAll();
+        }
+        all.keySet().forEach(DriverPool::quitQuietly);
+    }
+
+
+    private WebDriver startSession(String browserName, String key) {
+        WebDriver driver;
+        try {
+            driver = DriverFactory.getNewDriver(browserName);
+            driver.get(LocalBankServer.resolveBaseUrl());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                liveCount--;
+                notifyAll();
+            }
+            throw e;
+        }
+        synchronized (this) {
+            leased.put(driver, key);
+        }
+        return driver;
+    }
+
+
+    // Removes an idle session of any key, keeping its slot counted for the caller to reuse; caller holds
+    // the monitor and quits the session after leaving it, so other leases and releases are not held up
+    private WebDriver takeIdleSession() {
+        for (Deque<WebDriver> sessions : idle.values()) {
+            WebDriver victim = sessions.pollLast();
+            if (victim != null) {
+                return victim;
+            }
+        }
+        return null;
+    }
+
+
+    private void awaitRelease() {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled driver", e);
+        }
+    }
+
+
+    private void discard(WebDriver driver) {
+        quitQuietly(driver);
+        synchronized (this) {
+            liveCount--;
+            notifyAll();
+        }
+    }
+
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            System.err.println("Evicting unhealthy pooled driver: " + e.getMessage());
+            return false;
+        }
+    }
+
+
+    // Brings a session back to the state of a freshly started browser on base.url
+    private static boolean reset(WebDriver driver) {
+        try {
+            dismissOpenAlert(driver);
+            driver.get(LocalBankServer.resolveBaseUrl());
+            ((JavascriptExecutor) driver).executeScript(
+                    "window.localStorage.clear(); window.sessionStorage.clear();");
+            driver.manage().deleteAllCookies();
+            // Reload so the app re-initialises from the cleared storage
+            driver.navigate().refresh();
+            return true;
+        } catch (Exception e) {
+            System.err.println("Failed to reset pooled driver: " + e.getMessage());
+            return false;
+        }
+    }
+
+
+    private static void dismissOpenAlert(WebDriver driver) {
+        try {
+            driver.switchTo().alert().dismiss();
+        } catch (NoAlertPresentException e) {
+            // Nothing left open by the previous test
+        }
+    }
+
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.err.println("Error quitting driver: " + e.getMessage());
+        }
+    }
+
+
+    private static String keyFor(String browserName) {
+        return DriverOptionsFactory.fingerprint(browserName);
+    }
+}
@@ -0,0 +1,154 @@
+package com.xyzbank.app.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP server hosting a local copy of the XYZ Bank app for offline, low-latency runs.
+ * Started at most once per JVM on an ephemeral loopback port; static assets are read from the
+ * classpath once and then served from memory by a pool of threads, so many browser sessions
+ * can load pages concurrently.
+ *
+ * Select it with app.target=local; the default (remote) keeps using base.url.
+ */
+public final class LocalBankServer {
+
+    private static final String APP_CONTEXT = "/BankingProject/";
+    private static final String APP_RESOURCES = "xyzbank-app/";
+    private static final String WEBJARS_CONTEXT = "/webjars/";
+    private static final String WEBJARS_RESOURCES = "META-INF/resources/webjars/";
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=UTF-8",
+            "js", "application/javascript; charset=UTF-8",
+            "css", "text/css; charset=UTF-8",
+            "map", "application/json; charset=UTF-8");
+
+    private static volatile LocalBankServer instance;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Optional<byte[]>> assets = new ConcurrentHashMap<>();
+
+    private LocalBankServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "local-bank-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext(APP_CONTEXT, exchange -> serve(exchange, APP_CONTEXT, APP_RESOURCES));
+        server.createContext(WEBJARS_CONTEXT, exchange -> serve(exchange, WEBJARS_CONTEXT, WEBJARS_RESOURCES));
+        server.start();
+    }
+
+
+    /**
+     * Starts the server on first use and returns the shared instance.
+     */
+    public static LocalBankServer getInstance() {
+        if (instance == null) {
+            synchronized (LocalBankServer.class) {
+                if (instance == null) {
+                    try {
+                        LocalBankServer started = new LocalBankServer();
+                        Runtime.getRuntime().addShutdownHook(new Thread(started::stop, "local-bank-server-shutdown"));
+                        instance = started;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to start local XYZ Bank server", e);
+                    }
+                }
+            }
+        }
+        return instance;
+    }
+
+
+    public static boolean isSelected() {
+        return "local".equalsIgnoreCase(PropertiesLoader.getConfigProperty("app.target", "remote"));
+    }
+
+
+    /**
+     * Login URL of the app under test: the local stand-in when app.target=local, otherwise base.url.
+     */
+    public static String resolveBaseUrl() {
+        return isSelected() ? getInstance().getBaseUrl() : PropertiesLoader.getConfigProperty("base.url");
+    }
+
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + getPort() + APP_CONTEXT + "index.html#/login";
+    }
+
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+
+    private void serve(HttpExchange exchange, String context, String resourceRoot) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            String relative = exchange.getRequestURI().getPath().substring(context.length());
+            if (relative.isEmpty()) {
+                relative = "index.html";
+            }
+            Optional<byte[]> body = relative.contains("..") ? Optional.empty() : load(resourceRoot + relative);
+            if (body.isEmpty()) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            String extension = relative.substring(relative.lastIndexOf('.') + 1);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"));
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=3600");
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.get().length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body.get());
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+
+    // Assets are read from the classpath once and kept in memory
+    private Optional<byte[]> load(String resource) {
+        return assets.computeIfAbsent(resource, name -> {
+            try (InputStream input = LocalBankServer.class.getClassLoader().getResourceAsStream(name)) {
+                return input == null ? Optional.empty() : Optional.of(input.readAllBytes());
+            } catch (IOException e) {
+                System.err.println("Error reading local app asset " + name + ": " + e.getMessage());
+                return Optional.empty();
+            }
+        });
+    }
+}
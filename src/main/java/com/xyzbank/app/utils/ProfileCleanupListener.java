@@ -0,0 +1,34 @@
+package com.xyzbank.app.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+
+/**
+ * Deletes a session's throwaway profile directory once quit() has run on the decorated driver,
+ * also when quit reports an error (e.g. the browser had already died), so every session that
+ * DriverFactory starts takes its profile with it instead of leaving it until JVM exit.
+ */
+public class ProfileCleanupListener implements WebDriverListener {
+
+    private final Path profile;
+
+    public ProfileCleanupListener(Path profile) {
+        this.profile = profile;
+    }
+
+    @Override
+    public void afterQuit(WebDriver driver) {
+        DriverOptionsFactory.deleteProfile(profile);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        if (target instanceof WebDriver && "quit".equals(method.getName())) {
+            DriverOptionsFactory.deleteProfile(profile);
+        }
+    }
+}
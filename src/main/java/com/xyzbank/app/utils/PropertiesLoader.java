@@ -6,8 +6,9 @@ import java.util.Properties;
 
 public class PropertiesLoader {
 
-    private static Properties configProperties;
-    private static Properties testDataProperties; // New static field for test data
+    // Volatile so lazily loaded properties are safely published to parallel test threads
+    private static volatile Properties configProperties;
+    private static volatile Properties testDataProperties;
 
     // Private constructor to prevent instantiation
     private PropertiesLoader() {
@@ -32,21 +33,30 @@ public class PropertiesLoader {
 
     public static void loadConfigProperties() {
         if (configProperties == null) {
-            configProperties = loadProperties("config.properties");
+            synchronized (PropertiesLoader.class) {
+                if (configProperties == null) {
+                    configProperties = loadProperties("config.properties");
+                }
+            }
         }
     }
 
 
     public static void loadTestDataProperties() {
         if (testDataProperties == null) {
-            testDataProperties = loadProperties("testdata.properties");
+            synchronized (PropertiesLoader.class) {
+                if (testDataProperties == null) {
+                    testDataProperties = loadProperties("testdata.properties");
+                }
+            }
         }
     }
 
 
+    // System properties (-Dkey=value) take precedence over config.properties
     public static String getConfigProperty(String key) {
         loadConfigProperties(); // Ensure properties are loaded
-        String value = configProperties.getProperty(key);
+        String value = System.getProperty(key, configProperties.getProperty(key));
         if (value == null) {
             throw new RuntimeException("Property '" + key + "' not found in config.properties");
         }
@@ -56,7 +66,7 @@ public class PropertiesLoader {
 
     public static String getConfigProperty(String key, String defaultValue) {
         loadConfigProperties(); // Ensure properties are loaded
-        return configProperties.getProperty(key, defaultValue);
+        return System.getProperty(key, configProperties.getProperty(key, defaultValue));
     }
 
 
@@ -0,0 +1,100 @@
+package com.xyzbank.app.utils;
+
+import com.xyzbank.app.model.CustomerFixture;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Lazily generates unique, reproducible customer/postcode/currency scenarios for volume tests.
+ *
+ * Scenario i is computed on demand from (seed, i): i goes through a seeded bijection on 64-bit
+ * values, and the result is spelled out as first name (high 32 bits) and last name (low 32 bits),
+ * so distinct indexes always give distinct full names. Nothing is remembered between scenarios,
+ * so streaming millions of them uses constant memory, and any index can be regenerated directly
+ * (e.g. to split a range across machines or to replay a failure).
+ */
+public final class ScenarioGenerator {
+
+    public static final List<String> CURRENCIES = List.of("Dollar", "Pound", "Rupee");
+
+    private static final String CONSONANTS = "bdfghjklmnprstvz";
+    private static final String VOWELS = "aeiou";
+    private static final int SYLLABLES = CONSONANTS.length() * VOWELS.length();
+    private static final int NAME_SYLLABLES = 6; // 80^6 > 2^32, so every 32-bit half has its own name
+    private static final String LETTERS = "ABDEFGHJLNPQRSTUWXYZ";
+
+    private final long seed;
+
+    public ScenarioGenerator(long seed) {
+        this.seed = seed;
+    }
+
+
+    /**
+     * Generator seeded from scenario.seed (default 20240601), so runs repeat unless asked otherwise.
+     */
+    public static ScenarioGenerator fromConfig() {
+        return new ScenarioGenerator(Long.parseLong(PropertiesLoader.getConfigProperty("scenario.seed", "20240601")));
+    }
+
+
+    public long getSeed() {
+        return seed;
+    }
+
+
+    /**
+     * The scenario at the given index; the same seed and index always give the same scenario.
+     */
+    public CustomerFixture scenario(long index) {
+        long value = permute(index);
+        long detail = mix(value ^ 0x9E3779B97F4A7C15L);
+        String postCode = "E" + (100 + Math.floorMod(detail, 900))
+                + LETTERS.charAt(Math.floorMod(detail >>> 16, LETTERS.length()))
+                + LETTERS.charAt(Math.floorMod(detail >>> 24, LETTERS.length()));
+        String currency = CURRENCIES.get(Math.floorMod(detail >>> 32, CURRENCIES.size()));
+        return new CustomerFixture(name(value >>> 32), name(value & 0xFFFFFFFFL), postCode, List.of(currency));
+    }
+
+
+    /**
+     * Scenarios [offset, offset + count) in index order, produced one at a time as the stream is consumed.
+     */
+    public Stream<CustomerFixture> stream(long offset, long count) {
+        return LongStream.range(offset, offset + count).mapToObj(this::scenario);
+    }
+
+
+    public Stream<CustomerFixture> stream(long count) {
+        return stream(0, count);
+    }
+
+
+    // Seeded bijection: xor with a seed-derived key, then an invertible mix
+    private long permute(long index) {
+        return mix(index ^ mix(seed));
+    }
+
+
+    // SplitMix64 finalizer; each step (xor-shift, multiply by an odd constant) is invertible
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+
+    // Fixed-width base-80 spelling of a 32-bit value, e.g. "Kabomu..."
+    private static String name(long value) {
+        StringBuilder name = new StringBuilder(NAME_SYLLABLES * 2);
+        for (int i = 0; i < NAME_SYLLABLES; i++) {
+            int syllable = (int) (value % SYLLABLES);
+            value /= SYLLABLES;
+            name.append(CONSONANTS.charAt(syllable / VOWELS.length())).append(VOWELS.charAt(syllable % VOWELS.length()));
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+}
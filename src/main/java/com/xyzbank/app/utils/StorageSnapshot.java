@@ -0,0 +1,128 @@
+package com.xyzbank.app.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Copy of the XYZ Bank app's browser storage (customers, accounts and transactions all live in
+ * localStorage), taken once and written back into any session on the same origin in one script
+ * call plus a reload. Tests that need the same data can seed it once per run and then start
+ * every test from an identical state without UI setup or a browser restart.
+ *
+ * Snapshots are kept for the run by name: {@link #restoreOrCapture} seeds and captures on first use
+ * and restores afterwards. Set storage.snapshot.enabled=false to seed before every test instead.
+ */
+public final class StorageSnapshot {
+
+    private static final String CAPTURE_SCRIPT =
+            "var entries = {};" +
+            "for (var i = 0; i < window.localStorage.length; i++) {" +
+            "  var key = window.localStorage.key(i);" +
+            "  entries[key] = window.localStorage.getItem(key);" +
+            "}" +
+            "return { origin: window.location.origin, entries: entries };";
+
+    // Replaces the whole storage; false if the session is on another origin, whose storage this is not
+    private static final String RESTORE_SCRIPT =
+            "if (window.location.origin !== arguments[0]) { return false; }" +
+            "window.localStorage.clear();" +
+            "var entries = arguments[1];" +
+            "Object.keys(entries).forEach(function (key) { window.localStorage.setItem(key, entries[key]); });" +
+            "return true;";
+
+    private static final Map<String, CompletableFuture<StorageSnapshot>> BY_NAME = new ConcurrentHashMap<>();
+
+    private final String origin;
+    private final Map<String, String> entries;
+
+    private StorageSnapshot(String origin, Map<String, String> entries) {
+        this.origin = origin;
+        this.entries = Map.copyOf(entries);
+    }
+
+
+    /**
+     * Reads every localStorage entry of the page the driver is on, in one script call.
+     */
+    @SuppressWarnings("unchecked")
+    public static StorageSnapshot capture(WebDriver driver) {
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        return new StorageSnapshot((String) result.get("origin"), (Map<String, String>) result.get("entries"));
+    }
+
+
+    /**
+     * Restores the snapshot registered under the name, or the first time runs the setup
+     * (e.g. seeding) on this driver and registers what it left in storage. Concurrent first
+     * callers wait for the one doing the setup, then restore; if that setup fails, the next
+     * caller runs it again.
+     */
+    public static void restoreOrCapture(WebDriver driver, String name, Runnable setup) {
+        if (!Boolean.parseBoolean(PropertiesLoader.getConfigProperty("storage.snapshot.enabled", "true"))) {
+            setup.run();
+            return;
+        }
+        while (true) {
+            // Only the future goes into the map, so the seeding itself never runs under the map's lock
+            CompletableFuture<StorageSnapshot> pending = new CompletableFuture<>();
+            CompletableFuture<StorageSnapshot> existing = BY_NAME.putIfAbsent(name, pending);
+            if (existing == null) {
+                try {
+                    setup.run();
+                    pending.complete(capture(driver));
+                    return;
+                } catch (RuntimeException | Error e) {
+                    BY_NAME.remove(name, pending);
+                    pending.completeExceptionally(e);
+                    throw e;
+                }
+            }
+            StorageSnapshot snapshot;
+            try {
+                snapshot = existing.join();
+            } catch (CompletionException | CancellationException e) {
+                continue; // The first caller's setup failed and its entry is gone: take over
+            }
+            snapshot.restore(driver);
+            return;
+        }
+    }
+
+
+    /**
+     * Overwrites the session's storage with the snapshot and reloads so the app re-reads it.
+     * @throws IllegalStateException If the driver is not on the origin the snapshot was taken from.
+     */
+    public void restore(WebDriver driver) {
+        Object restored = ((JavascriptExecutor) driver).executeScript(RESTORE_SCRIPT, origin, entries);
+        if (!Boolean.TRUE.equals(restored)) {
+            throw new IllegalStateException("Storage snapshot belongs to " + origin
+                    + " but the browser is on " + driver.getCurrentUrl());
+        }
+        driver.navigate().refresh();
+    }
+
+
+    public String getOrigin() {
+        return origin;
+    }
+
+
+    public Map<String, String> getEntries() {
+        return entries;
+    }
+
+
+    /**
+     * Drops a named snapshot, so the next restoreOrCapture runs its setup again.
+     */
+    public static void discard(String name) {
+        BY_NAME.remove(name);
+    }
+}
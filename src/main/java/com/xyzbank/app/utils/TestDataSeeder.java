@@ -0,0 +1,155 @@
+package com.xyzbank.app.utils;
+
+import com.xyzbank.app.model.CustomerFixture;
+import com.xyzbank.app.pages.AddCustomerPage;
+import com.xyzbank.app.pages.BankManagerLoginPage;
+import com.xyzbank.app.pages.HomePage;
+import com.xyzbank.app.pages.OpenAccountPage;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seeds customers and accounts straight into the XYZ Bank app's browser storage.
+ * The app persists its data as JSON under the User, Account and Transaction keys, so a
+ * whole batch of fixtures can be written in one script call instead of clicking through
+ * the Bank Manager screens. Seeding is idempotent: customers are matched by first and last
+ * name and only missing currencies get a new account. If the storage layout is not the
+ * expected one, seeding falls back to the UI.
+ */
+public class TestDataSeeder {
+
+    private static final String SEED_SCRIPT =
+            "var fixtures = arguments[0], storage = window.localStorage;" +
+            "var users, accounts, transactions;" +
+            "try {" +
+            "  users = JSON.parse(storage.getItem('User'));" +
+            "  accounts = JSON.parse(storage.getItem('Account')) || {};" +
+            "  transactions = JSON.parse(storage.getItem('Transaction')) || {};" +
+            "} catch (e) { return null; }" +
+            "if (!users || typeof users !== 'object') { return null; }" +
+            "var ids = Object.keys(users), nextId = 0, nextAccount = 1000;" +
+            "for (var i = 0; i < ids.length; i++) {" +
+            "  var existing = users[ids[i]];" +
+            "  if (!existing || typeof existing.fName !== 'string' || !Array.isArray(existing.accountNo)) { return null; }" +
+            "  nextId = Math.max(nextId, Number(ids[i]));" +
+            "  existing.accountNo.forEach(function (n) { nextAccount = Math.max(nextAccount, Number(n)); });" +
+            "}" +
+            "var added = 0, opened = 0;" +
+            "fixtures.forEach(function (f) {" +
+            "  var user = null;" +
+            "  Object.keys(users).forEach(function (id) {" +
+            "    if (users[id].fName === f.firstName && users[id].lName === f.lastName) { user = users[id]; }" +
+            "  });" +
+            "  if (!user) {" +
+            "    nextId++;" +
+            "    user = { id: nextId, fName: f.firstName, lName: f.lastName, postCd: f.postCode, accountNo: [], date: new Date() };" +
+            "    users[nextId] = user;" +
+            "    added++;" +
+            "  }" +
+            "  var userAccounts = accounts[user.id] = accounts[user.id] || {};" +
+            "  var userTransactions = transactions[user.id] = transactions[user.id] || {};" +
+            "  f.currencies.forEach(function (currency) {" +
+            "    var hasAccount = user.accountNo.some(function (n) {" +
+            "      return userAccounts[n] && userAccounts[n].currency === currency; });" +
+            "    if (hasAccount) { return; }" +
+            "    nextAccount++;" +
+            "    user.accountNo.push(nextAccount);" +
+            "    userAccounts[nextAccount] = { accountNo: nextAccount, currency: currency, amount: 0, date: new Date() };" +
+            "    userTransactions[nextAccount] = [];" +
+            "    opened++;" +
+            "  });" +
+            "});" +
+            "if (added > 0 || opened > 0) {" +
+            "  storage.setItem('User', JSON.stringify(users));" +
+            "  storage.setItem('Account', JSON.stringify(accounts));" +
+            "  storage.setItem('Transaction', JSON.stringify(transactions));" +
+            "}" +
+            "return { customersAdded: added, accountsOpened: opened };";
+
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+
+    public TestDataSeeder(WebDriver driver, WebDriverWait wait) {
+        this.driver = driver;
+        this.wait = wait;
+    }
+
+
+    public SeedResult seed(CustomerFixture... fixtures) {
+        return seed(List.of(fixtures));
+    }
+
+
+    /**
+     * Ensures every fixture exists, in one script call plus a reload when anything was written.
+     * Leaves the browser on base.url.
+     */
+    public SeedResult seed(List<CustomerFixture> fixtures) {
+        if (!"ui".equalsIgnoreCase(PropertiesLoader.getConfigProperty("seed.mode", "storage"))) {
+            SeedResult result = seedThroughStorage(fixtures);
+            if (result != null) {
+                return result;
+            }
+            System.err.println("App storage layout not recognised, seeding test data through the UI");
+        }
+        return seedThroughUi(fixtures);
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private SeedResult seedThroughStorage(List<CustomerFixture> fixtures) {
+        List<Map<String, Object>> arguments = new ArrayList<>();
+        for (CustomerFixture fixture : fixtures) {
+            arguments.add(fixture.toScriptArgument());
+        }
+
+        Object raw = ((JavascriptExecutor) driver).executeScript(SEED_SCRIPT, arguments);
+        if (!(raw instanceof Map)) {
+            return null;
+        }
+        Map<String, Object> counts = (Map<String, Object>) raw;
+        SeedResult result = new SeedResult(
+                ((Number) counts.get("customersAdded")).intValue(),
+                ((Number) counts.get("accountsOpened")).intValue(),
+                true);
+
+        // The app reads storage when it boots, so reload only if something was written
+        if (result.customersAdded() > 0 || result.accountsOpened() > 0) {
+            driver.navigate().refresh();
+        }
+        return result;
+    }
+
+
+    private SeedResult seedThroughUi(List<CustomerFixture> fixtures) {
+        HomePage homePage = new HomePage(driver, wait);
+        BankManagerLoginPage bankManagerPage = homePage.clickBankManagerLogin();
+        AddCustomerPage addCustomerPage = bankManagerPage.clickAddCustomer();
+        for (CustomerFixture fixture : fixtures) {
+            // Adding an existing customer only raises a duplicate alert, which addCustomer accepts
+            addCustomerPage.addCustomer(fixture.firstName(), fixture.lastName(), fixture.postCode());
+        }
+
+        // The open account form lists customers as it opens, so all of them are added first
+        OpenAccountPage openAccountPage = bankManagerPage.clickOpenAccount();
+        OpenAccountPage.BulkOpenResult opened = openAccountPage.openAccounts(fixtures.stream()
+                .flatMap(fixture -> fixture.currencies().stream()
+                        .map(currency -> new OpenAccountPage.AccountRequest(fixture.fullName(), currency))));
+        opened.failures().forEach(failure -> System.err.println("Could not open seeded account: " + failure));
+
+        driver.get(LocalBankServer.resolveBaseUrl());
+        return new SeedResult(fixtures.size(), opened.accountNumbers().size(), false);
+    }
+
+
+    /**
+     * @param viaStorage False when the UI fallback was used; counts are then upper bounds.
+     */
+    public record SeedResult(int customersAdded, int accountsOpened, boolean viaStorage) {
+    }
+}
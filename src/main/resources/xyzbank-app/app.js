@@ -0,0 +1,354 @@
+/*
+ * Local stand-in for the XYZ Bank demo app. All state lives in localStorage under the
+ * same User / Account / Transaction keys as the original, and every service call reads
+ * storage afresh, so data written by tests (or another tab) is picked up immediately.
+ */
+(function () {
+    'use strict';
+
+    var app = angular.module('BankingProject', []);
+
+    // The original app uses plain "#/route" URLs
+    app.config(['$locationProvider', function ($locationProvider) {
+        $locationProvider.hashPrefix('');
+    }]);
+
+    var DEFAULT_CUSTOMERS = [
+        {fName: 'Hermoine', lName: 'Granger', postCd: 'E859AB'},
+        {fName: 'Harry', lName: 'Potter', postCd: 'E725JB'},
+        {fName: 'Ron', lName: 'Weasly', postCd: 'E55555'},
+        {fName: 'Albus', lName: 'Dumbledore', postCd: 'E55656'},
+        {fName: 'Neville', lName: 'Longbottom', postCd: 'E89898'}
+    ];
+    var DEFAULT_CURRENCIES = ['Dollar', 'Pound', 'Rupee'];
+
+    app.factory('bankStore', function () {
+
+        function read(key) {
+            var raw = window.localStorage.getItem(key);
+            return raw ? JSON.parse(raw) : {};
+        }
+
+        function write(key, value) {
+            window.localStorage.setItem(key, JSON.stringify(value));
+        }
+
+        function allAccountNumbers(users) {
+            var numbers = [1000];
+            Object.keys(users).forEach(function (id) {
+                numbers = numbers.concat(users[id].accountNo);
+            });
+            return numbers;
+        }
+
+        var store = {
+            users: function () {
+                return read('User');
+            },
+
+            customers: function () {
+                var users = store.users();
+                return Object.keys(users).map(function (id) {
+                    return users[id];
+                });
+            },
+
+            user: function (userId) {
+                return store.users()[userId];
+            },
+
+            /** @returns The new customer id, or null if a customer with that name exists. */
+            addUser: function (fName, lName, postCd) {
+                var users = store.users();
+                var duplicate = Object.keys(users).some(function (id) {
+                    return users[id].fName === fName && users[id].lName === lName;
+                });
+                if (duplicate) {
+                    return null;
+                }
+                var nextId = Math.max.apply(null, [0].concat(Object.keys(users).map(Number))) + 1;
+                users[nextId] = {id: nextId, fName: fName, lName: lName, postCd: postCd, accountNo: [], date: new Date()};
+                write('User', users);
+                return nextId;
+            },
+
+            deleteUser: function (userId) {
+                ['User', 'Account', 'Transaction'].forEach(function (key) {
+                    var data = read(key);
+                    delete data[userId];
+                    write(key, data);
+                });
+            },
+
+            openAccount: function (userId, currency) {
+                var users = store.users();
+                var accounts = read('Account');
+                var transactions = read('Transaction');
+                var accountNo = Math.max.apply(null, allAccountNumbers(users)) + 1;
+
+                users[userId].accountNo.push(accountNo);
+                accounts[userId] = accounts[userId] || {};
+                accounts[userId][accountNo] = {accountNo: accountNo, currency: currency, amount: 0, date: new Date()};
+                transactions[userId] = transactions[userId] || {};
+                transactions[userId][accountNo] = [];
+
+                write('User', users);
+                write('Account', accounts);
+                write('Transaction', transactions);
+                return accountNo;
+            },
+
+            account: function (userId, accountNo) {
+                var accounts = read('Account');
+                return accounts[userId] && accounts[userId][accountNo];
+            },
+
+            transactions: function (userId, accountNo) {
+                var transactions = read('Transaction');
+                return (transactions[userId] && transactions[userId][accountNo]) || [];
+            },
+
+            /** Applies a credit or debit; returns false if a debit exceeds the balance. */
+            post: function (userId, accountNo, amount, type) {
+                var accounts = read('Account');
+                var transactions = read('Transaction');
+                var account = accounts[userId][accountNo];
+                if (type === 'Debit' && amount > account.amount) {
+                    return false;
+                }
+                account.amount += type === 'Credit' ? amount : -amount;
+                transactions[userId] = transactions[userId] || {};
+                transactions[userId][accountNo] = transactions[userId][accountNo] || [];
+                transactions[userId][accountNo].push({amount: amount, date: new Date(), type: type});
+                write('Account', accounts);
+                write('Transaction', transactions);
+                return true;
+            }
+        };
+
+        // First visit in a fresh browser profile: load the demo customers
+        if (window.localStorage.getItem('User') === null) {
+            write('User', {});
+            write('Account', {});
+            write('Transaction', {});
+            DEFAULT_CUSTOMERS.forEach(function (customer) {
+                var userId = store.addUser(customer.fName, customer.lName, customer.postCd);
+                DEFAULT_CURRENCIES.forEach(function (currency) {
+                    store.openAccount(userId, currency);
+                });
+            });
+        }
+
+        return store;
+    });
+
+    // Logged-in customer and selected account survive a page refresh, like the original
+    app.factory('session', function () {
+        return {
+            userId: function () {
+                return Number(window.sessionStorage.getItem('xyzUser')) || null;
+            },
+            accountNo: function () {
+                return Number(window.sessionStorage.getItem('xyzAccount')) || null;
+            },
+            login: function (userId) {
+                window.sessionStorage.setItem('xyzUser', String(userId));
+                window.sessionStorage.removeItem('xyzAccount');
+            },
+            selectAccount: function (accountNo) {
+                window.sessionStorage.setItem('xyzAccount', String(accountNo));
+            },
+            logout: function () {
+                window.sessionStorage.removeItem('xyzUser');
+                window.sessionStorage.removeItem('xyzAccount');
+            }
+        };
+    });
+
+    // Keeps transactions between the optional start and end date filters
+    app.filter('sdate', function () {
+        return function (items, start, end) {
+            return (items || []).filter(function (tx) {
+                var time = new Date(tx.date).getTime();
+                return (!start || time >= new Date(start).getTime()) && (!end || time <= new Date(end).getTime());
+            });
+        };
+    });
+
+    app.controller('mainCtrl', ['$scope', '$location', 'session', function ($scope, $location, session) {
+        var SECTIONS = ['login', 'customer', 'account', 'listTx', 'manager'];
+
+        function route() {
+            var parts = $location.path().split('/').filter(Boolean);
+            if (SECTIONS.indexOf(parts[0]) < 0) {
+                $location.path('/login');
+                return;
+            }
+            $scope.section = parts[0];
+            $scope.view = parts[1] || '';
+            $scope.logout = parts[0] === 'account' || parts[0] === 'listTx';
+        }
+
+        $scope.$on('$locationChangeSuccess', route);
+        route();
+
+        $scope.home = function () {
+            $location.path('/login');
+        };
+        $scope.customer = function () {
+            $location.path('/customer');
+        };
+        $scope.manager = function () {
+            $location.path('/manager');
+        };
+        $scope.byebye = function () {
+            session.logout();
+            $location.path('/customer');
+        };
+        $scope.addCust = function () {
+            $location.path('/manager/addCust');
+        };
+        $scope.openAccount = function () {
+            $location.path('/manager/openAccount');
+        };
+        $scope.showCust = function () {
+            $location.path('/manager/list');
+        };
+    }]);
+
+    app.controller('customerCtrl', ['$scope', '$location', 'bankStore', 'session',
+        function ($scope, $location, bankStore, session) {
+            $scope.Customers = bankStore.customers();
+            $scope.custId = '';
+
+            $scope.showAccount = function () {
+                session.login($scope.custId);
+                $location.path('/account');
+            };
+        }]);
+
+    app.controller('accountCtrl', ['$scope', '$location', 'bankStore', 'session',
+        function ($scope, $location, bankStore, session) {
+            var userId = session.userId();
+            if (!userId || !bankStore.user(userId)) {
+                $location.path('/customer');
+                return;
+            }
+
+            function load() {
+                $scope.user = bankStore.user(userId);
+                $scope.accountNo = session.accountNo() || $scope.user.accountNo[0];
+                $scope.account = bankStore.account(userId, $scope.accountNo) || {};
+            }
+
+            load();
+            $scope.form = {};
+            $scope.tab = '';
+            $scope.message = '';
+
+            $scope.selectAccount = function () {
+                session.selectAccount($scope.accountNo);
+                load();
+            };
+            $scope.transactions = function () {
+                session.selectAccount($scope.accountNo);
+                $location.path('/listTx');
+            };
+            $scope.deposit = function () {
+                $scope.tab = 'deposit';
+                $scope.message = '';
+                $scope.form.amount = undefined;
+            };
+            $scope.withdrawl = function () {
+                $scope.tab = 'withdrawl';
+                $scope.message = '';
+                $scope.form.amount = undefined;
+            };
+            $scope.submitDeposit = function () {
+                bankStore.post(userId, $scope.accountNo, $scope.form.amount, 'Credit');
+                $scope.message = 'Deposit Successful';
+                $scope.form.amount = undefined;
+                load();
+            };
+            $scope.submitWithdrawl = function () {
+                if (bankStore.post(userId, $scope.accountNo, $scope.form.amount, 'Debit')) {
+                    $scope.message = 'Transaction successful';
+                } else {
+                    $scope.message = 'Transaction Failed. You can not withdraw amount more than the balance.';
+                }
+                $scope.form.amount = undefined;
+                load();
+            };
+        }]);
+
+    app.controller('listTxCtrl', ['$scope', '$location', 'bankStore', 'session',
+        function ($scope, $location, bankStore, session) {
+            var userId = session.userId();
+            var user = bankStore.user(userId);
+            var accountNo = session.accountNo() || (user && user.accountNo[0]);
+
+            $scope.transactions = bankStore.transactions(userId, accountNo).map(function (tx) {
+                return {date: new Date(tx.date), amount: tx.amount, type: tx.type};
+            });
+            $scope.sortType = 'date';
+            $scope.sortReverse = false;
+
+            $scope.sortBy = function (field) {
+                $scope.sortReverse = $scope.sortType === field ? !$scope.sortReverse : false;
+                $scope.sortType = field;
+            };
+            $scope.back = function () {
+                $location.path('/account');
+            };
+            $scope.reset = function () {
+                $scope.startDate = undefined;
+                $scope.end = undefined;
+                // Partially typed dates never reach the model, so clear the inputs themselves too
+                angular.forEach(document.querySelectorAll('#start, #end'), function (input) {
+                    input.value = '';
+                });
+            };
+        }]);
+
+    app.controller('addCustCtrl', ['$scope', 'bankStore', function ($scope, bankStore) {
+        $scope.addCustomer = function () {
+            var userId = bankStore.addUser($scope.fName, $scope.lName, $scope.postCd);
+            if (userId === null) {
+                window.alert('Please check the details. Customer may be duplicate.');
+                return;
+            }
+            window.alert('Customer added successfully with customer id :' + userId);
+            $scope.fName = '';
+            $scope.lName = '';
+            $scope.postCd = '';
+        };
+    }]);
+
+    app.controller('openAccountCtrl', ['$scope', 'bankStore', function ($scope, bankStore) {
+        $scope.Customers = bankStore.customers();
+        $scope.custId = '';
+        $scope.currency = '';
+
+        $scope.process = function () {
+            var accountNo = bankStore.openAccount(Number($scope.custId), $scope.currency);
+            window.alert('Account created successfully with account Number :' + accountNo);
+            $scope.custId = '';
+            $scope.currency = '';
+        };
+    }]);
+
+    app.controller('listCustCtrl', ['$scope', 'bankStore', function ($scope, bankStore) {
+        $scope.Customers = bankStore.customers();
+        $scope.sortType = undefined;
+        $scope.sortReverse = false;
+
+        $scope.sortBy = function (field) {
+            $scope.sortReverse = $scope.sortType === field ? !$scope.sortReverse : false;
+            $scope.sortType = field;
+        };
+        $scope.deleteCust = function (cust) {
+            bankStore.deleteUser(cust.id);
+            $scope.Customers = bankStore.customers();
+        };
+    }]);
+})();
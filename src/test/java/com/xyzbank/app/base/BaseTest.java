@@ -1,12 +1,19 @@
 package com.xyzbank.app.base;
 
+import com.xyzbank.app.metrics.ActionMetrics;
+import com.xyzbank.app.pages.HomePage;
 import com.xyzbank.app.utils.PropertiesLoader;
 import com.xyzbank.app.utils.DriverFactory;
+import com.xyzbank.app.utils.DriverPool;
+import com.xyzbank.app.utils.LocalBankServer;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInfo;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
 
 public class BaseTest {
@@ -17,35 +24,81 @@ public class BaseTest {
     protected String browserName;
     protected long implicitWaitSeconds;
     protected long explicitWaitSeconds;
+    private boolean pooled;
 
     @BeforeEach
-    void setup() {
+    void setup(TestInfo testInfo) {
+        // Page actions on this thread are reported against the running test
+        String testName = testInfo.getTestMethod().map(Method::getName).orElse(testInfo.getDisplayName());
+        ActionMetrics.setCurrentTest(getClass().getSimpleName() + "." + testName);
+
         // Ensure config properties are loaded before using them
         PropertiesLoader.loadConfigProperties(); // Explicitly load config properties
 
         // Load properties from config.properties using the new getConfigProperty methods
-        baseURL = PropertiesLoader.getConfigProperty("base.url");
+        baseURL = LocalBankServer.resolveBaseUrl(); // base.url, or the embedded stand-in when app.target=local
         browserName = PropertiesLoader.getConfigProperty("browser", "chrome"); // Default to chrome
-        implicitWaitSeconds = Long.parseLong(PropertiesLoader.getConfigProperty("implicit.wait.seconds", "10"));
+        implicitWaitSeconds = Long.parseLong(PropertiesLoader.getConfigProperty("implicit.wait.seconds", "0"));
         explicitWaitSeconds = Long.parseLong(PropertiesLoader.getConfigProperty("explicit.wait.seconds", "20"));
 
-        // Initialize WebDriver using the DriverFactory
-        driver = DriverFactory.getNewDriver(browserName);
+        // Lease a warm session from the pool, or start a dedicated one when pooling is off
+        pooled = DriverPool.isEnabled();
+        if (pooled) {
+            driver = DriverPool.getInstance().lease(browserName);
+        } else {
+            driver = DriverFactory.getNewDriver(browserName);
+            driver.get(baseURL);
+        }
 
-        // Set implicit wait (useful for elements that might not appear immediately)
+        // Implicit wait stays 0: page objects wait through WaitEngine, and a non-zero value would stack
+        // under every explicit wait and make absence checks block for the full timeout
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitWaitSeconds));
 
         // Initialize WebDriverWait for explicit waits
         wait = new WebDriverWait(driver, Duration.ofSeconds(explicitWaitSeconds));
-
-        // Navigate to the base URL
-        driver.get(baseURL);
     }
 
     @AfterEach
     void teardown() {
-        if (driver != null) {
+        ActionMetrics.clearCurrentTest();
+        if (driver == null) {
+            return;
+        }
+        if (pooled) {
+            DriverPool.getInstance().release(driver);
+        } else {
             driver.quit();
         }
     }
-}
\ No newline at end of file
+
+
+    // Once per @CleanupCustomers class, in a dedicated session: only useful when the app's data outlives
+    // a session, so customers.cleanup.enabled is off by default (pool resets and fresh profiles wipe it)
+    @AfterAll
+    static void cleanupCustomers(TestInfo testInfo) {
+        CleanupCustomers cleanup = testInfo.getTestClass()
+                .map(testClass -> testClass.getAnnotation(CleanupCustomers.class)).orElse(null);
+        if (cleanup == null
+                || !Boolean.parseBoolean(PropertiesLoader.getConfigProperty("customers.cleanup.enabled", "false"))) {
+            return;
+        }
+        WebDriver cleanupDriver = null;
+        try {
+            cleanupDriver = DriverFactory.getNewDriver(PropertiesLoader.getConfigProperty("browser", "chrome"));
+            cleanupDriver.get(LocalBankServer.resolveBaseUrl());
+            WebDriverWait cleanupWait = new WebDriverWait(cleanupDriver, Duration.ofSeconds(
+                    Long.parseLong(PropertiesLoader.getConfigProperty("explicit.wait.seconds", "20"))));
+            int deleted = new HomePage(cleanupDriver, cleanupWait).clickBankManagerLogin().clickCustomers()
+                    .deleteCustomersMatching(cleanup.value());
+            if (deleted > 0) {
+                System.out.println("Removed " + deleted + " customer(s) matching '" + cleanup.value() + "'");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Customer cleanup for '" + cleanup.value() + "' failed: " + e.getMessage());
+        } finally {
+            if (cleanupDriver != null) {
+                cleanupDriver.quit();
+            }
+        }
+    }
+}
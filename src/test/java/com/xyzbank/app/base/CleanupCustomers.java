@@ -0,0 +1,23 @@
+package com.xyzbank.app.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Deletes the customers a test class creates once all its tests have run (BaseTest's @AfterAll),
+ * so the customers table does not keep growing across runs. Off unless customers.cleanup.enabled=true:
+ * the app keeps its data in each browser's storage, which pool resets and fresh profiles already wipe,
+ * so enable it only for a target whose data outlives a session.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CleanupCustomers {
+
+    /**
+     * Regular expression matched against each customer's "First Last" name,
+     * see {@link com.xyzbank.app.pages.CustomersPage#deleteCustomersMatching(String)}.
+     */
+    String value();
+}
@@ -0,0 +1,146 @@
+package com.xyzbank.app.bench;
+
+import com.xyzbank.app.pages.AccountPage;
+import com.xyzbank.app.pages.AddCustomerPage;
+import com.xyzbank.app.pages.BankManagerLoginPage;
+import com.xyzbank.app.pages.CustomerLoginPage;
+import com.xyzbank.app.pages.CustomersPage;
+import com.xyzbank.app.pages.HomePage;
+import com.xyzbank.app.pages.OpenAccountPage;
+import com.xyzbank.app.pages.TransactionsPage;
+import com.xyzbank.app.pages.base.CachedElement;
+import com.xyzbank.app.pages.base.PageElements;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Construction cost per page object, PageFactory.initElements against the cached PageElements
+ * runtime, plus the findElement calls each issues when a page uses an element several times.
+ * Needs no browser: the driver is a stub that only counts lookups.
+ * Not part of the default suite; run with: mvn test -Dtest=PageConstructionBenchmark
+ */
+@Tag("benchmark")
+public class PageConstructionBenchmark {
+
+    private static final int WARM_UP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    private static final int USES = 5;
+
+    private static final List<PageType> PAGES = List.of(
+            new PageType("HomePage", HomePage::new),
+            new PageType("BankManagerLoginPage", BankManagerLoginPage::new),
+            new PageType("CustomerLoginPage", CustomerLoginPage::new),
+            new PageType("AccountPage", AccountPage::new),
+            new PageType("TransactionsPage", TransactionsPage::new),
+            new PageType("CustomersPage", CustomersPage::new),
+            new PageType("AddCustomerPage", AddCustomerPage::new),
+            new PageType("OpenAccountPage", OpenAccountPage::new));
+
+    private final AtomicInteger finds = new AtomicInteger();
+    private final WebDriver driver = stubDriver(finds);
+    private final WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(1));
+
+    static class ProbePage {
+        @FindBy(id = "balance")
+        WebElement balance;
+    }
+
+    @Test
+    void compareInitialisation() {
+        System.out.printf("%-22s %6s | %18s | %18s | %16s%n",
+                "page", "fields", "PageFactory ns/op", "PageElements ns/op", "construct ns/op");
+        for (PageType type : PAGES) {
+            Object page = type.constructor().apply(driver, wait);
+            double pageFactory = nanosPerOp(() -> PageFactory.initElements(driver, page));
+            double pageElements = nanosPerOp(() -> PageElements.initElements(driver, page));
+            double construct = nanosPerOp(() -> type.constructor().apply(driver, wait));
+            System.out.printf("%-22s %6d | %18.0f | %18.0f | %16.0f%n", type.name(),
+                    PageElements.countElementFields(page.getClass()), pageFactory, pageElements, construct);
+        }
+        assertEquals(0, finds.get(), "Initialising a page should not look anything up");
+    }
+
+
+    @Test
+    void compareLookups() {
+        ProbePage legacy = new ProbePage();
+        PageFactory.initElements(driver, legacy);
+        finds.set(0);
+        for (int i = 0; i < USES; i++) {
+            legacy.balance.getText();
+        }
+        int legacyFinds = finds.get();
+
+        ProbePage cached = new ProbePage();
+        PageElements.initElements(driver, cached);
+        finds.set(0);
+        for (int i = 0; i < USES; i++) {
+            cached.balance.getText();
+        }
+        int cachedFinds = finds.get();
+
+        CachedElement handle = CachedElement.of(cached.balance);
+        System.out.printf("%d uses of one element | PageFactory: %d findElement calls | PageElements: %d (%d hits, %d misses)%n",
+                USES, legacyFinds, cachedFinds, handle.getHits(), handle.getMisses());
+        assertEquals(USES, legacyFinds);
+        assertEquals(1, cachedFinds);
+    }
+
+
+    private static double nanosPerOp(Runnable operation) {
+        for (int i = 0; i < WARM_UP; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        return (System.nanoTime() - start) / (double) ITERATIONS;
+    }
+
+
+    // Answers findElement with an inert element and counts the lookups; everything else returns defaults
+    private static WebDriver stubDriver(AtomicInteger finds) {
+        WebElement element = (WebElement) Proxy.newProxyInstance(PageConstructionBenchmark.class.getClassLoader(),
+                new Class<?>[]{WebElement.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getText" -> "";
+                    case "isDisplayed", "isEnabled" -> true;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+        return (WebDriver) Proxy.newProxyInstance(PageConstructionBenchmark.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findElement" -> {
+                        finds.incrementAndGet();
+                        yield element;
+                    }
+                    case "findElements" -> {
+                        finds.incrementAndGet();
+                        yield List.of(element);
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "stub driver";
+                    default -> null;
+                });
+    }
+
+
+    private record PageType(String name, BiFunction<WebDriver, WebDriverWait, Object> constructor) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.xyzbank.app.bench;
+
+import com.xyzbank.app.pages.TransactionsPage;
+import com.xyzbank.app.utils.DriverFactory;
+import com.xyzbank.app.utils.PropertiesLoader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Timing benchmark for transactions table extraction against a local fixture page.
+ * Compares the old per-row/per-cell scrape with the single-script bulk read (snapshot dropped before
+ * each read), plus the cost of reusing an unchanged snapshot.
+ * Not part of the default suite; run with: mvn test -Dtest=TableExtractionBenchmark
+ */
+@Tag("benchmark")
+public class TableExtractionBenchmark {
+
+    private static final int ITERATIONS = 5;
+
+    private static WebDriver rawDriver;
+    private static WebDriver driver;
+    private static final AtomicInteger roundTrips = new AtomicInteger();
+
+    @BeforeAll
+    static void startBrowser() {
+        rawDriver = DriverFactory.getNewDriver(PropertiesLoader.getConfigProperty("browser", "chrome"));
+        // Every call through the decorated driver or its elements is one WebDriver round trip
+        WebDriverListener counter = new WebDriverListener() {
+            @Override
+            public void beforeAnyCall(Object target, Method method, Object[] args) {
+                roundTrips.incrementAndGet();
+            }
+        };
+        driver = new EventFiringDecorator<WebDriver>(counter).decorate(rawDriver);
+    }
+
+    @AfterAll
+    static void stopBrowser() {
+        if (rawDriver != null) {
+            rawDriver.quit();
+        }
+    }
+
+    @ParameterizedTest(name = "{0} rows")
+    @ValueSource(ints = {10, 50, 200})
+    void compareExtraction(int rows) throws URISyntaxException {
+        rawDriver.get(fixtureUrl(rows));
+        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        TransactionsPage transactionsPage = new TransactionsPage(driver, wait);
+
+        Result legacy = measure(() -> legacyExtract(driver).size());
+        // The page keeps its last snapshot while the table is unchanged, so drop it to time a real read
+        Result bulk = measure(() -> {
+            transactionsPage.invalidateSnapshot();
+            return transactionsPage.getTransactionsTable().getRowCount();
+        });
+        // And the memoized path on its own: one version check against the kept snapshot
+        Result cached = measure(() -> transactionsPage.getTransactionsTable().getRowCount());
+
+        assertEquals(rows, legacy.rows, "Legacy scrape should read every row");
+        assertEquals(rows, bulk.rows, "Bulk read should read every row");
+        assertEquals(rows, cached.rows, "Cached snapshot should hold every row");
+
+        System.out.printf("%4d rows | legacy: %5d round trips, %8.2f ms, %6.3f ms/row | bulk: %3d round trips, %7.2f ms, %6.3f ms/row"
+                        + " | cached: %d round trips, %6.2f ms%n",
+                rows,
+                legacy.roundTrips, legacy.millis, legacy.millis / rows,
+                bulk.roundTrips, bulk.millis, bulk.millis / rows,
+                cached.roundTrips, cached.millis);
+    }
+
+
+    private static Result measure(RowReader reader) {
+        int rows = reader.read(); // warm-up
+        roundTrips.set(0);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows = reader.read();
+        }
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+        return new Result(rows, roundTrips.get() / ITERATIONS, millis);
+    }
+
+
+    // The pre-bulk implementation of TransactionsPage.getTransactionsTableData, kept as the baseline
+    private static List<Map<String, String>> legacyExtract(WebDriver driver) {
+        List<String> headers = new ArrayList<>();
+        for (WebElement headerCell : driver.findElement(By.cssSelector("table thead tr")).findElements(By.tagName("td"))) {
+            headers.add(headerCell.getText().trim());
+        }
+        List<Map<String, String>> transactions = new ArrayList<>();
+        for (WebElement row : driver.findElement(By.cssSelector("table tbody")).findElements(By.tagName("tr"))) {
+            List<WebElement> cells = row.findElements(By.tagName("td"));
+            Map<String, String> transaction = new HashMap<>();
+            for (int i = 0; i < headers.size() && i < cells.size(); i++) {
+                transaction.put(headers.get(i), cells.get(i).getText().trim());
+            }
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+
+
+    private static String fixtureUrl(int rows) throws URISyntaxException {
+        return TableExtractionBenchmark.class.getResource("/fixtures/transactions-table.html").toURI() + "?rows=" + rows;
+    }
+
+
+    private interface RowReader {
+        int read();
+    }
+
+
+    private record Result(int rows, int roundTrips, double millis) {
+    }
+}
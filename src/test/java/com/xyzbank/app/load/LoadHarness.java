@@ -0,0 +1,260 @@
+package com.xyzbank.app.load;
+
+import com.xyzbank.app.metrics.ActionMetrics;
+import com.xyzbank.app.metrics.LatencyHistogram;
+import com.xyzbank.app.model.CustomerFixture;
+import com.xyzbank.app.pages.AccountPage;
+import com.xyzbank.app.pages.CustomerLoginPage;
+import com.xyzbank.app.pages.HomePage;
+import com.xyzbank.app.pages.TransactionsPage;
+import com.xyzbank.app.utils.DriverFactory;
+import com.xyzbank.app.utils.DriverPool;
+import com.xyzbank.app.utils.LocalBankServer;
+import com.xyzbank.app.utils.PropertiesLoader;
+import com.xyzbank.app.utils.ScenarioGenerator;
+import com.xyzbank.app.utils.TestDataSeeder;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Load generator: simulated customers arrive at a configurable rate and each runs
+ * login, deposit, withdraw, view transactions and logout through the regular page objects,
+ * against the embedded XYZ Bank stand-in (app.target is forced to local unless set explicitly).
+ *
+ * Settings (-D or config.properties):
+ *   load.users            simulated customers in total (default 20)
+ *   load.arrival.rate     arrivals per second once ramped up (default 1)
+ *   load.rampup.seconds   the arrival rate grows linearly from 0 over this time (default 10)
+ *   load.concurrency      browser sessions at most in use at once (default driver.pool.max.size)
+ *
+ * Customers arriving while every session is busy queue for one; that wait is reported as its own step.
+ * The report (stdout and target/load/load-report.txt) gives per-step throughput and p50/p95/p99 latency.
+ *
+ * Run with: mvn -Pload test -Dload.users=200 -Dload.arrival.rate=4 -Dload.concurrency=8
+ */
+public class LoadHarness {
+
+    static final List<String> STEPS = List.of("queue", "seed", "login", "deposit", "withdraw", "transactions", "logout");
+
+    private static final String DEPOSIT_AMOUNT = "100";
+    private static final String WITHDRAW_AMOUNT = "40";
+
+    private final int users;
+    private final double arrivalRate;
+    private final double rampUpSeconds;
+    private final int concurrency;
+    private final Semaphore sessions;
+    private final ScenarioGenerator scenarios = ScenarioGenerator.fromConfig();
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+    private final Map<String, LongAdder> errors = new LinkedHashMap<>();
+    private final AtomicInteger completed = new AtomicInteger();
+
+    public LoadHarness(int users, double arrivalRate, double rampUpSeconds, int concurrency) {
+        if (users < 1 || arrivalRate <= 0 || rampUpSeconds < 0 || concurrency < 1) {
+            throw new IllegalArgumentException("Invalid load settings: users=" + users + ", rate=" + arrivalRate
+                    + ", ramp-up=" + rampUpSeconds + ", concurrency=" + concurrency);
+        }
+        this.users = users;
+        this.arrivalRate = arrivalRate;
+        this.rampUpSeconds = rampUpSeconds;
+        this.concurrency = concurrency;
+        this.sessions = new Semaphore(concurrency, true);
+        for (String step : STEPS) {
+            latencies.put(step, new LatencyHistogram());
+            errors.put(step, new LongAdder());
+        }
+    }
+
+
+    public static void main(String[] args) throws IOException {
+        if (System.getProperty("app.target") == null) {
+            System.setProperty("app.target", "local");
+        }
+        int concurrency = Integer.parseInt(PropertiesLoader.getConfigProperty("load.concurrency",
+                PropertiesLoader.getConfigProperty("driver.pool.max.size", "4")));
+        // Lets the driver pool keep one warm session per concurrent customer
+        System.setProperty("parallel.workers", String.valueOf(concurrency));
+
+        LoadHarness harness = new LoadHarness(
+                Integer.parseInt(PropertiesLoader.getConfigProperty("load.users", "20")),
+                Double.parseDouble(PropertiesLoader.getConfigProperty("load.arrival.rate", "1")),
+                Double.parseDouble(PropertiesLoader.getConfigProperty("load.rampup.seconds", "10")),
+                concurrency);
+        long wallNanos = harness.run();
+
+        String report = harness.report(wallNanos);
+        System.out.println(report);
+        Path reportFile = Paths.get("target", "load", "load-report.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, report, StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * Seconds after the start at which the customer with this index (0-based) arrives: during ramp-up
+     * the rate grows linearly, so arrivals so far are rate * t^2 / (2 * rampUp); afterwards rate * t minus the ramp deficit.
+     */
+    static double arrivalOffsetSeconds(long index, double rate, double rampUpSeconds) {
+        double rampArrivals = rate * rampUpSeconds / 2;
+        if (index < rampArrivals) {
+            return Math.sqrt(2 * rampUpSeconds * index / rate);
+        }
+        return rampUpSeconds + (index - rampArrivals) / rate;
+    }
+
+
+    /**
+     * Starts each customer on a virtual thread at its arrival time and waits for all of them.
+     * @return Wall time in nanoseconds.
+     */
+    public long run() {
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int index = 0; index < users; index++) {
+                long arrival = start + (long) (arrivalOffsetSeconds(index, arrivalRate, rampUpSeconds) * 1e9);
+                long delay = arrival - System.nanoTime();
+                if (delay > 0) {
+                    Thread.sleep(delay / 1_000_000, (int) (delay % 1_000_000));
+                }
+                CustomerFixture generated = scenarios.scenario(index);
+                CustomerFixture customer = new CustomerFixture(
+                        generated.firstName(), generated.lastName(), generated.postCode(), List.of("Dollar"));
+                executor.submit(() -> simulateCustomer(customer));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Load run interrupted; reporting the customers started so far");
+        }
+        return System.nanoTime() - start;
+    }
+
+
+    private void simulateCustomer(CustomerFixture customer) {
+        long queued = System.nanoTime();
+        try {
+            sessions.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.get("queue").increment();
+            return;
+        }
+        latencies.get("queue").record(System.nanoTime() - queued);
+
+        ActionMetrics.setCurrentTest("LoadHarness.customerFlow");
+        String browserName = PropertiesLoader.getConfigProperty("browser", "chrome");
+        boolean pooled = DriverPool.isEnabled();
+        WebDriver driver = null;
+        try {
+            driver = pooled ? DriverPool.getInstance().lease(browserName) : DriverFactory.getNewDriver(browserName);
+            if (!pooled) {
+                driver.get(LocalBankServer.resolveBaseUrl());
+            }
+            runFlow(driver, customer);
+        } catch (RuntimeException e) {
+            System.err.println("Customer " + customer.fullName() + " could not start a session: " + e.getMessage());
+            errors.get("login").increment();
+        } finally {
+            ActionMetrics.clearCurrentTest();
+            if (driver != null) {
+                if (pooled) {
+                    DriverPool.getInstance().release(driver);
+                } else {
+                    driver.quit();
+                }
+            }
+            sessions.release();
+        }
+    }
+
+
+    private void runFlow(WebDriver driver, CustomerFixture customer) {
+        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(
+                Long.parseLong(PropertiesLoader.getConfigProperty("explicit.wait.seconds", "20"))));
+
+        boolean ok = step("seed", () -> {
+            new TestDataSeeder(driver, wait).seed(customer);
+            return true;
+        });
+        AccountPage[] account = new AccountPage[1];
+        ok = ok && step("login", () -> {
+            CustomerLoginPage loginPage = new HomePage(driver, wait).clickCustomerLogin();
+            account[0] = loginPage.loginAsCustomer(customer.fullName());
+            return account[0].isAccountPageDisplayed();
+        });
+        ok = ok && step("deposit", () -> {
+            account[0].depositFunds(DEPOSIT_AMOUNT);
+            return "Deposit Successful".equals(account[0].getTransactionStatus());
+        });
+        ok = ok && step("withdraw", () -> {
+            account[0].withdrawFunds(WITHDRAW_AMOUNT);
+            return "Transaction successful".equals(account[0].getTransactionStatus());
+        });
+        TransactionsPage[] transactions = new TransactionsPage[1];
+        ok = ok && step("transactions", () -> {
+            transactions[0] = account[0].clickTransactions();
+            transactions[0].waitForTransactionsToLoad();
+            return transactions[0].getTransactionsTable().getRowCount() >= 2;
+        });
+        ok = ok && step("logout", () -> transactions[0].clickBackButton().clickLogout().isCustomerLoginPageDisplayed());
+        if (ok) {
+            completed.incrementAndGet();
+        }
+    }
+
+
+    // Times one step; a false result or an exception counts as an error and ends the customer's flow
+    private boolean step(String name, Supplier<Boolean> action) {
+        long start = System.nanoTime();
+        boolean passed;
+        try {
+            passed = action.get();
+        } catch (RuntimeException e) {
+            System.err.println("Load step '" + name + "' failed: " + e.getMessage());
+            passed = false;
+        }
+        latencies.get(name).record(System.nanoTime() - start);
+        if (!passed) {
+            errors.get(name).increment();
+        }
+        return passed;
+    }
+
+
+    public String report(long wallNanos) {
+        double wallSeconds = wallNanos / 1e9;
+        StringBuilder out = new StringBuilder();
+        out.append("Load test report\n");
+        out.append(String.format(Locale.ROOT, "  customers   %d started, %d completed all steps%n", latencies.get("queue").getCount(), completed.get()));
+        out.append(String.format(Locale.ROOT, "  wall time   %.1f s (arrival rate %.2f/s after %.0f s ramp-up, %d sessions)%n",
+                wallSeconds, arrivalRate, rampUpSeconds, concurrency));
+        out.append(String.format(Locale.ROOT, "  flows/min   %.1f%n", wallSeconds == 0 ? 0 : completed.get() * 60 / wallSeconds));
+        out.append(String.format(Locale.ROOT, "  %-13s %7s %7s %9s %9s %9s %9s %9s%n",
+                "step", "count", "errors", "per sec", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (String step : STEPS) {
+            LatencyHistogram histogram = latencies.get(step);
+            out.append(String.format(Locale.ROOT, "  %-13s %7d %7d %9.2f %9.1f %9.1f %9.1f %9.1f%n",
+                    step, histogram.getCount(), errors.get(step).sum(),
+                    wallSeconds == 0 ? 0 : histogram.getCount() / wallSeconds,
+                    histogram.getValueAtPercentile(50) / 1e6, histogram.getValueAtPercentile(95) / 1e6,
+                    histogram.getValueAtPercentile(99) / 1e6, histogram.getMax() / 1e6));
+        }
+        return out.toString();
+    }
+}
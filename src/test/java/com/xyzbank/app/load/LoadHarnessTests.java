@@ -0,0 +1,29 @@
+package com.xyzbank.app.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadHarnessTests {
+
+    @Test
+    @DisplayName("Arrivals ramp up linearly, then follow the target rate")
+    void arrivalSchedule() {
+        // 2/s after a 10 s ramp: 10 arrivals during the ramp, then one every 0.5 s
+        assertEquals(0.0, LoadHarness.arrivalOffsetSeconds(0, 2, 10), 1e-9);
+        assertEquals(Math.sqrt(10), LoadHarness.arrivalOffsetSeconds(1, 2, 10), 1e-9);
+        assertEquals(10.0, LoadHarness.arrivalOffsetSeconds(10, 2, 10), 1e-9);
+        assertEquals(12.5, LoadHarness.arrivalOffsetSeconds(15, 2, 10), 1e-9);
+        for (int i = 1; i < 100; i++) {
+            assertTrue(LoadHarness.arrivalOffsetSeconds(i, 2, 10) > LoadHarness.arrivalOffsetSeconds(i - 1, 2, 10));
+        }
+    }
+
+    @Test
+    @DisplayName("Without ramp-up customers arrive at a constant rate")
+    void constantRate() {
+        assertEquals(2.5, LoadHarness.arrivalOffsetSeconds(5, 2, 0), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> new LoadHarness(10, 0, 0, 1));
+    }
+}
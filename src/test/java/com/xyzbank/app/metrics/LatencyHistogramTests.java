@@ -0,0 +1,63 @@
+package com.xyzbank.app.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTests {
+
+    @Test
+    @DisplayName("Small values are counted exactly")
+    void exactBelowLinearLimit() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10, histogram.getCount());
+        assertEquals(55, histogram.getSum());
+        assertEquals(1, histogram.getMin());
+        assertEquals(10, histogram.getMax());
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(10, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    @DisplayName("Percentiles of large values stay within the bucket precision")
+    void percentilesWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis * 1_000_000);
+        }
+        assertEquals(500_000_000, histogram.getValueAtPercentile(50), 500_000_000 * 0.035);
+        assertEquals(950_000_000, histogram.getValueAtPercentile(95), 950_000_000 * 0.035);
+        assertEquals(1_000_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    @DisplayName("Bucket boundaries are contiguous over the whole long range")
+    void bucketsContiguous() {
+        for (int bucket = 0; bucket < LatencyHistogram.bucketOf(Long.MAX_VALUE); bucket++) {
+            long top = LatencyHistogram.highestEquivalentValue(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(top));
+            assertEquals(bucket + 1, LatencyHistogram.bucketOf(top + 1));
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    @DisplayName("Merging adds counts, sums and extremes")
+    void merge() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(3);
+        second.record(7_000);
+        second.record(9);
+        first.add(second);
+        assertEquals(3, first.getCount());
+        assertEquals(7_012, first.getSum());
+        assertEquals(3, first.getMin());
+        assertEquals(7_000, first.getMax());
+        assertThrows(IllegalArgumentException.class, () -> first.record(-1));
+    }
+}
@@ -0,0 +1,109 @@
+package com.xyzbank.app.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.parallel.Resources;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransactionStoreTests {
+
+    private static TransactionStore sampleStore() {
+        return TransactionStore.builder(4)
+                .addRow("Jan 1, 2015 10:00:00 AM", "100", "Credit")
+                .addRow("Jan 2, 2015 11:30:00 AM", "40.25", "Debit")
+                .addRow("Jan 3, 2015 9:15:00 PM", "0.10", "Credit")
+                .addRow("Jan 5, 2015 12:00:00 AM", "0.20", "Credit")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Parse displayed amounts into exact minor units")
+    void parseMinorUnits() {
+        assertEquals(10000, MoneyFormat.parseMinorUnits("100"));
+        assertEquals(1250, MoneyFormat.parseMinorUnits(" 12.5 "));
+        assertEquals(-2075, MoneyFormat.parseMinorUnits("-20.75"));
+        assertEquals(0, MoneyFormat.parseMinorUnits("0"));
+        assertThrows(NumberFormatException.class, () -> MoneyFormat.parseMinorUnits("1.234"));
+        assertThrows(NumberFormatException.class, () -> MoneyFormat.parseMinorUnits("abc"));
+        assertThrows(NumberFormatException.class, () -> MoneyFormat.parseMinorUnits(""));
+    }
+
+    @Test
+    @DisplayName("Format minor units the way the app displays amounts")
+    void formatMinorUnits() {
+        assertEquals("100", MoneyFormat.format(10000));
+        assertEquals("12.50", MoneyFormat.format(1250));
+        assertEquals("-0.05", MoneyFormat.format(-5));
+    }
+
+    @Test
+    @ResourceLock(Resources.LOCALE)
+    @DisplayName("Formatted amounts use ASCII digits and parse back under any default locale")
+    void formatIgnoresDefaultLocale() {
+        Locale original = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.forLanguageTag("th-TH-u-nu-thai"));
+            assertEquals("12.50", MoneyFormat.format(1250));
+            assertEquals(-2075, MoneyFormat.parseMinorUnits(MoneyFormat.format(-2075)));
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, original);
+        }
+    }
+
+    @Test
+    @DisplayName("Sum amounts by type without floating point error")
+    void sumByTypeIsExact() {
+        TransactionStore store = sampleStore();
+        assertEquals(10030, store.sumMinor(TransactionType.CREDIT), "0.10 + 0.20 must not drift");
+        assertEquals(4025, store.sumMinor(TransactionType.DEBIT));
+        assertEquals(6005, store.balanceMinor());
+        assertEquals(3, store.count(TransactionType.CREDIT));
+        assertArrayEquals(new int[]{1}, store.rowsOfType(TransactionType.DEBIT));
+    }
+
+    @Test
+    @DisplayName("Range queries are inclusive and chronological")
+    void rowsBetweenTimeRange() {
+        TransactionStore store = sampleStore();
+        LocalDateTime from = LocalDateTime.of(2015, 1, 2, 11, 30);
+        LocalDateTime to = LocalDateTime.of(2015, 1, 3, 21, 15);
+        assertArrayEquals(new int[]{1, 2}, store.rowsBetween(from, to));
+        assertEquals(10, store.sumMinor(TransactionType.CREDIT, from, to));
+        assertEquals(0, store.rowsBetween(to, from).length);
+    }
+
+    @Test
+    @DisplayName("Rows out of chronological order are still range-indexed")
+    void unsortedRowsAreIndexedByTime() {
+        TransactionStore store = TransactionStore.builder(3)
+                .addRow("Mar 1, 2015 10:00:00 AM", "3", "Credit")
+                .addRow("Jan 1, 2015 10:00:00 AM", "1", "Credit")
+                .addRow("Feb 1, 2015 10:00:00 AM", "2", "Debit")
+                .build();
+        assertArrayEquals(new int[]{1, 2}, store.rowsBetween(
+                LocalDateTime.of(2015, 1, 1, 0, 0), LocalDateTime.of(2015, 2, 28, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("Materialise a typed transaction on demand")
+    void getTypedTransaction() {
+        Transaction transaction = sampleStore().get(1);
+        assertEquals(LocalDateTime.of(2015, 1, 2, 11, 30), transaction.timestamp());
+        assertEquals(4025, transaction.amountMinor());
+        assertEquals(TransactionType.DEBIT, transaction.type());
+        assertEquals("40.25", transaction.formatAmount());
+    }
+
+    @Test
+    @DisplayName("Reject rows with unknown type or date")
+    void rejectInvalidRows() {
+        TransactionStore.Builder builder = TransactionStore.builder(1);
+        assertThrows(IllegalArgumentException.class, () -> builder.addRow("Jan 1, 2015 10:00:00 AM", "1", "Refund"));
+        assertThrows(IllegalArgumentException.class, () -> builder.addRow("2015-01-01", "1", "Credit"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.xyzbank.app.pages;
+
+import com.xyzbank.app.pages.base.TableData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CustomerIndexTests {
+
+    private static final List<String> HEADERS =
+            List.of("First Name", "Last Name", "Post Code", "Account Number", "Delete Customer");
+
+    private final CustomerIndex index = new CustomerIndex(TableData.of(HEADERS, List.of(
+            List.of("Hermoine", "Granger", "E859AB", "1001 1002 1003", "Delete"),
+            List.of("Harry", "Potter", "E725JB", "1004 1005 1006", "Delete"),
+            List.of("Ron", "Weasly", "E55555", "", "Delete"),
+            List.of("Harry", "Granger", "E11111", "1007", "Delete"))));
+
+    @Test
+    @DisplayName("Full names resolve to their row regardless of case")
+    void fullNameLookup() {
+        assertEquals(1, index.rowOfFullName("harry potter"));
+        assertEquals(3, index.rowOfFullName("Harry Granger"));
+        assertEquals(-1, index.rowOfFullName("Albus Dumbledore"));
+        assertEquals("E725JB", index.getRow(index.rowOfFullName("Harry Potter")).get("Post Code"));
+        assertNull(index.getRow(index.rowOfFullName("Albus Dumbledore")));
+    }
+
+    @Test
+    @DisplayName("Name lookups return the first matching row in table order")
+    void nameLookupKeepsTableOrder() {
+        assertEquals(0, index.rowOfName("Granger"));
+        assertEquals(1, index.rowOfName("Harry"));
+        assertEquals(3, index.rowOfName("Harry Granger"));
+        assertEquals(2, index.rowOfName(" Ron "));
+    }
+
+    @Test
+    @DisplayName("Every account number in a row maps back to that row")
+    void accountLookup() {
+        assertEquals(0, index.rowOfAccount("1002"));
+        assertEquals(1, index.rowOfAccount("1006"));
+        assertEquals(3, index.rowOfAccount("1007"));
+        assertEquals(-1, index.rowOfAccount("9999"));
+        assertTrue(index.contains("1003"));
+        assertTrue(index.contains("Ron Weasly"));
+        assertFalse(index.contains("Weasley"));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    @DisplayName("Row text scan finds partial names and other cells, as a row's rendered text would")
+    void rowTextScan() {
+        assertEquals(2, index.rowContaining("Weas"));
+        assertEquals(1, index.rowContaining("E725JB"));
+        assertEquals(2, index.rowContaining("Ron Weasly E55555 Delete"));
+        assertEquals(3, index.rowContaining("Harry Granger"));
+        assertEquals(-1, index.rowContaining("harry potter"));
+        assertEquals(-1, index.rowContaining("Dumbledore"));
+    }
+
+    @Test
+    @DisplayName("An empty table indexes nothing")
+    void emptyTable() {
+        CustomerIndex empty = new CustomerIndex(TableData.empty());
+        assertEquals(0, empty.size());
+        assertFalse(empty.contains("Harry"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.xyzbank.app.pages;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CustomerQueryTests {
+
+    private static final Map<String, String> HARRY = Map.of(
+            "First Name", "Harry", "Last Name", "Potter", "Post Code", "E725JB", "Account Number", "1004 1005");
+    private static final Map<String, String> RON = Map.of(
+            "First Name", "Ron", "Last Name", "Weasly", "Post Code", "E55555", "Account Number", "");
+
+    @Test
+    @DisplayName("Name prefix matches the first, last or full name, ignoring case")
+    void namePrefix() {
+        assertTrue(CustomerQuery.all().withNamePrefix("har").matches(HARRY));
+        assertTrue(CustomerQuery.all().withNamePrefix("Pot").matches(HARRY));
+        assertTrue(CustomerQuery.all().withNamePrefix("Harry P").matches(HARRY));
+        assertFalse(CustomerQuery.all().withNamePrefix("otter").matches(HARRY));
+    }
+
+    @Test
+    @DisplayName("Post code and account filters combine with the name prefix")
+    void combinedFilters() {
+        assertTrue(CustomerQuery.all().matches(RON));
+        assertTrue(CustomerQuery.all().withPostCode("e725jb").withAccount(true).matches(HARRY));
+        assertFalse(CustomerQuery.all().withPostCode("E725JB").matches(RON));
+        assertTrue(CustomerQuery.all().withAccount(false).matches(RON));
+        assertFalse(CustomerQuery.all().withAccount(true).matches(RON));
+        assertFalse(CustomerQuery.all().withNamePrefix("Ron").withAccount(true).matches(RON));
+    }
+}
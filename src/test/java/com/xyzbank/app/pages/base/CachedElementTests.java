@@ -0,0 +1,93 @@
+package com.xyzbank.app.pages.base;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachedElementTests {
+
+    // Each lookup renders a new element; marking the page re-rendered makes every earlier one stale
+    private final List<AtomicBoolean> rendered = new ArrayList<>();
+    private final SearchContext page = new SearchContext() {
+        @Override
+        public List<WebElement> findElements(By by) {
+            return List.of(findElement(by));
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            AtomicBoolean attached = new AtomicBoolean(true);
+            rendered.add(attached);
+            String text = "render " + rendered.size();
+            return (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{WebElement.class},
+                    (proxy, method, args) -> {
+                        if (!attached.get()) {
+                            throw new StaleElementReferenceException("detached");
+                        }
+                        return "getText".equals(method.getName()) ? text : null;
+                    });
+        }
+    };
+
+    static class FormPage {
+        @FindBy(css = "input[placeholder='amount']")
+        WebElement amountInput;
+    }
+
+    private void reRender() {
+        rendered.forEach(attached -> attached.set(false));
+    }
+
+    @Test
+    @DisplayName("The element is located once and then reused")
+    void reusesHandle() {
+        CachedElement element = new CachedElement(page, By.id("balance"));
+        assertEquals("render 1", element.apply(WebElement::getText));
+        assertEquals("render 1", element.apply(WebElement::getText));
+        assertEquals("render 1", element.apply(WebElement::getText));
+        assertEquals(1, element.getMisses());
+        assertEquals(2, element.getHits());
+        assertEquals(1, rendered.size());
+    }
+
+    @Test
+    @DisplayName("A stale handle is re-resolved and the command retried once")
+    void reResolvesStaleHandle() {
+        CachedElement element = new CachedElement(page, By.id("balance"));
+        element.apply(WebElement::getText);
+        reRender();
+        assertEquals("render 2", element.apply(WebElement::getText));
+        assertEquals(1, element.getStaleResolutions());
+        assertEquals(2, element.getMisses());
+    }
+
+    @Test
+    @DisplayName("Page element fields are proxies over cached handles")
+    void pageFieldsUseCachedHandles() {
+        FormPage form = new FormPage();
+        PageElements.initElements(page, form);
+        assertTrue(rendered.isEmpty(), "Nothing is located before first use");
+
+        form.amountInput.getText();
+        form.amountInput.getText();
+        reRender();
+        assertEquals("render 2", form.amountInput.getText());
+
+        CachedElement handle = CachedElement.of(form.amountInput);
+        assertNotNull(handle);
+        assertEquals(2, handle.getMisses());
+        assertEquals(1, handle.getStaleResolutions());
+        assertNull(CachedElement.of(page.findElement(By.id("plain"))));
+    }
+}
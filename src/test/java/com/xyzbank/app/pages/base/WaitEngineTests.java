@@ -0,0 +1,52 @@
+package com.xyzbank.app.pages.base;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WaitEngineTests {
+
+    private final WaitEngine engine = new WaitEngine(null, Duration.ofSeconds(2));
+
+    @Test
+    @DisplayName("Returns the first truthy value, retrying through lookup failures")
+    void untilRetriesNotFound() {
+        AtomicInteger polls = new AtomicInteger();
+        String value = engine.until("retry", d -> {
+            if (polls.incrementAndGet() < 3) {
+                throw new NoSuchElementException("not yet");
+            }
+            return "found";
+        });
+        assertEquals("found", value);
+        assertEquals(3, polls.get());
+    }
+
+    @Test
+    @DisplayName("Times out with the description once the limit passes")
+    void untilTimesOut() {
+        TimeoutException e = assertThrows(TimeoutException.class,
+                () -> engine.until("never", d -> false, Duration.ofMillis(50)));
+        assertTrue(e.getMessage().contains("never"));
+    }
+
+    @Test
+    @DisplayName("Absence checks shrink to the observed appearance time")
+    void absenceTimeoutAdapts() {
+        assertEquals(Duration.ofMillis(1000), WaitEngine.getAbsenceTimeout("quick condition"));
+        for (int i = 0; i < 5; i++) {
+            assertTrue(engine.appearsWithin("quick condition", d -> true));
+        }
+        assertEquals(Duration.ofMillis(100), WaitEngine.getAbsenceTimeout("quick condition"));
+
+        long start = System.nanoTime();
+        assertFalse(engine.appearsWithin("quick condition", d -> false));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 500);
+    }
+}
@@ -0,0 +1,206 @@
+package com.xyzbank.app.runner;
+
+import com.xyzbank.app.metrics.LatencyHistogram;
+import com.xyzbank.app.tests.BankManagerTests;
+import com.xyzbank.app.tests.CustomerLoginTests;
+import com.xyzbank.app.utils.PropertiesLoader;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the UI test methods of BankManagerTests and CustomerLoginTests, one virtual thread per
+ * scenario, through the JUnit Platform Launcher. WebDriver calls are blocking HTTP, so a virtual
+ * thread parked on one costs almost nothing; concurrency is bounded only by a semaphore of browser
+ * slots, and any number of queued scenarios can wait for a slot without a platform thread each.
+ *
+ * Settings (-D or config.properties):
+ *   browser.slots     concurrent browser sessions (default driver.pool.max.size)
+ *   scheduler.repeat  times each test method is queued (default 1)
+ *
+ * Prints and writes target/scheduler/slot-report.txt: pass/fail counts, throughput, slot
+ * utilisation (time slots were held / slots x wall time), peak concurrency and queue waits.
+ *
+ * Run with: mvn -Pvirtual-threads test -Dbrowser.slots=8 -Dscheduler.repeat=25
+ */
+public class VirtualThreadScheduler {
+
+    private static final Class<?>[] TEST_CLASSES = {BankManagerTests.class, CustomerLoginTests.class};
+
+    private final int slotCount;
+    private final Semaphore slots;
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger peakInUse = new AtomicInteger();
+    private final LongAdder busyNanos = new LongAdder();
+    private final LatencyHistogram queueNanos = new LatencyHistogram();
+    private final LatencyHistogram runNanos = new LatencyHistogram();
+    private final AtomicInteger passed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+    public VirtualThreadScheduler(int slotCount) {
+        this.slotCount = slotCount;
+        this.slots = new Semaphore(slotCount, true);
+    }
+
+
+    public static void main(String[] args) throws IOException {
+        int slotCount = Integer.parseInt(PropertiesLoader.getConfigProperty("browser.slots",
+                PropertiesLoader.getConfigProperty("driver.pool.max.size", "4")));
+        int repeat = Integer.parseInt(PropertiesLoader.getConfigProperty("scheduler.repeat", "1"));
+        // Lets the driver pool hold one warm session per slot
+        System.setProperty("parallel.workers", String.valueOf(slotCount));
+
+        List<MethodSource> testMethods = discover(TEST_CLASSES);
+        VirtualThreadScheduler scheduler = new VirtualThreadScheduler(slotCount);
+        long wallNanos = scheduler.run(testMethods, repeat);
+
+        String report = scheduler.report(wallNanos);
+        System.out.println(report);
+        Path reportFile = Paths.get("target", "scheduler", "slot-report.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, report, StandardCharsets.UTF_8);
+
+        if (!scheduler.failures.isEmpty()) {
+            throw new IllegalStateException(scheduler.failed.get() + " scenario(s) failed, see " + reportFile);
+        }
+    }
+
+
+    static List<MethodSource> discover(Class<?>... testClasses) {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(Arrays.stream(testClasses).map(DiscoverySelectors::selectClass).toList())
+                .build();
+        TestPlan plan = LauncherFactory.create().discover(request);
+        List<MethodSource> methods = new ArrayList<>();
+        for (TestIdentifier root : plan.getRoots()) {
+            for (TestIdentifier identifier : plan.getDescendants(root)) {
+                if (identifier.isTest() && identifier.getSource().orElse(null) instanceof MethodSource source) {
+                    methods.add(source);
+                }
+            }
+        }
+        return methods;
+    }
+
+
+    /**
+     * Queues every test method repeat times, each on its own virtual thread, and blocks until all finish.
+     * @return Wall time in nanoseconds.
+     */
+    public long run(List<MethodSource> testMethods, int repeat) {
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int round = 0; round < repeat; round++) {
+                for (MethodSource method : testMethods) {
+                    executor.submit(() -> runScenario(method));
+                }
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+
+    private void runScenario(MethodSource method) {
+        String name = method.getClassName().substring(method.getClassName().lastIndexOf('.') + 1) + "." + method.getMethodName();
+        long queued = System.nanoTime();
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.incrementAndGet();
+            failures.add(name + ": interrupted while waiting for a browser slot");
+            return;
+        }
+
+        long started = System.nanoTime();
+        queueNanos.record(started - queued);
+        peakInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+        try {
+            TestExecutionSummary summary = execute(method);
+            if (summary.getTotalFailureCount() == 0 && summary.getTestsSucceededCount() > 0) {
+                passed.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+                summary.getFailures().forEach(failure -> failures.add(name + ": " + failure.getException()));
+                if (summary.getTotalFailureCount() == 0) {
+                    failures.add(name + ": not executed (" + summary.getTestsSkippedCount() + " skipped, "
+                            + summary.getTestsAbortedCount() + " aborted)");
+                }
+            }
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            failures.add(name + ": " + e);
+        } finally {
+            long held = System.nanoTime() - started;
+            runNanos.record(held);
+            busyNanos.add(held);
+            inUse.decrementAndGet();
+            slots.release();
+        }
+    }
+
+
+    // Jupiter's own parallelism is off, so the test runs on this (virtual) thread. Its driver belongs to
+    // the test instance: leased from DriverPool (or started, with pooling off) in BaseTest's @BeforeEach and
+    // released (or quit) in its @AfterEach, so a session is held for exactly one scenario
+    private static TestExecutionSummary execute(MethodSource method) {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(DiscoverySelectors.selectMethod(method.getClassName(), method.getMethodName(),
+                        method.getMethodParameterTypes()))
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        Launcher launcher = LauncherFactory.create();
+        launcher.execute(request, listener);
+        return listener.getSummary();
+    }
+
+
+    public String report(long wallNanos) {
+        long scenarios = runNanos.getCount();
+        double wallSeconds = wallNanos / 1e9;
+        double utilisation = wallNanos == 0 ? 0 : busyNanos.sum() / ((double) slotCount * wallNanos);
+
+        StringBuilder out = new StringBuilder();
+        out.append("Virtual-thread scheduler report\n");
+        out.append(String.format(Locale.ROOT, "  scenarios        %d (%d passed, %d failed)%n", scenarios, passed.get(), failed.get()));
+        out.append(String.format(Locale.ROOT, "  wall time        %.1f s%n", wallSeconds));
+        out.append(String.format(Locale.ROOT, "  throughput       %.1f scenarios/min%n", wallSeconds == 0 ? 0 : scenarios * 60 / wallSeconds));
+        out.append(String.format(Locale.ROOT, "  browser slots    %d (peak in use %d)%n", slotCount, peakInUse.get()));
+        out.append(String.format(Locale.ROOT, "  slot utilisation %.1f%%%n", utilisation * 100));
+        out.append(String.format(Locale.ROOT, "  queue wait       p50 %.0f ms, p95 %.0f ms, max %.0f ms%n",
+                queueNanos.getValueAtPercentile(50) / 1e6, queueNanos.getValueAtPercentile(95) / 1e6, queueNanos.getMax() / 1e6));
+        out.append(String.format(Locale.ROOT, "  scenario time    p50 %.0f ms, p95 %.0f ms, max %.0f ms%n",
+                runNanos.getValueAtPercentile(50) / 1e6, runNanos.getValueAtPercentile(95) / 1e6, runNanos.getMax() / 1e6));
+        if (!failures.isEmpty()) {
+            out.append("Failures:\n");
+            failures.forEach(failure -> out.append("  ").append(failure).append('\n'));
+        }
+        return out.toString();
+    }
+}
@@ -1,20 +1,32 @@
 package com.xyzbank.app.tests;
 
 import com.xyzbank.app.base.BaseTest;
+import com.xyzbank.app.base.CleanupCustomers;
 import com.xyzbank.app.pages.BankManagerLoginPage;
 import com.xyzbank.app.pages.HomePage;
 import com.xyzbank.app.pages.AddCustomerPage;
 import com.xyzbank.app.pages.OpenAccountPage;
 import com.xyzbank.app.pages.CustomersPage;
+import com.xyzbank.app.pages.CustomerQuery;
 import com.xyzbank.app.utils.PropertiesLoader;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
+// Customers added here get a millisecond timestamp after the first name, plus the fixed duplicate
+@CleanupCustomers("\\d{13} |^DuplicateFN DuplicateLN$")
 public class BankManagerTests extends BaseTest {
 
+    // The validity probe already shows the submit was blocked; this only guards against a late alert
+    private static final Duration NO_ALERT_WINDOW = Duration.ofMillis(500);
+
     // Load test data properties once for all tests in this class
     @BeforeAll
     static void loadAllTestData() {
@@ -95,7 +107,8 @@ public class BankManagerTests extends BaseTest {
         addCustomerPage.enterPostCode(postCode);
         addCustomerPage.clickAddCustomerSubmitButton();
 
-        assertFalse(addCustomerPage.isAlertPresent(), "No alert should appear for empty first name due to HTML5 validation.");
+        assertTrue(addCustomerPage.isFirstNameValueMissing(), "Browser should flag the empty first name as a missing required value.");
+        assertTrue(addCustomerPage.noAlertWithin(NO_ALERT_WINDOW), "No alert should appear for empty first name due to HTML5 validation.");
         assertTrue(addCustomerPage.isAddCustomerPageDisplayed(), "Should remain on Add Customer page for empty first name.");
     }
 
@@ -115,7 +128,8 @@ public class BankManagerTests extends BaseTest {
         addCustomerPage.enterPostCode(postCode);
         addCustomerPage.clickAddCustomerSubmitButton();
 
-        assertFalse(addCustomerPage.isAlertPresent(), "No alert should appear for empty last name due to HTML5 validation.");
+        assertTrue(addCustomerPage.isLastNameValueMissing(), "Browser should flag the empty last name as a missing required value.");
+        assertTrue(addCustomerPage.noAlertWithin(NO_ALERT_WINDOW), "No alert should appear for empty last name due to HTML5 validation.");
         assertTrue(addCustomerPage.isAddCustomerPageDisplayed(), "Should remain on Add Customer page for empty last name.");
     }
 
@@ -135,7 +149,8 @@ public class BankManagerTests extends BaseTest {
         addCustomerPage.enterPostCode(postCode);
         addCustomerPage.clickAddCustomerSubmitButton();
 
-        assertFalse(addCustomerPage.isAlertPresent(), "No alert should appear for empty post code due to HTML5 validation.");
+        assertTrue(addCustomerPage.isPostCodeValueMissing(), "Browser should flag the empty post code as a missing required value.");
+        assertTrue(addCustomerPage.noAlertWithin(NO_ALERT_WINDOW), "No alert should appear for empty post code due to HTML5 validation.");
         assertTrue(addCustomerPage.isAddCustomerPageDisplayed(), "Should remain on Add Customer page for empty post code.");
     }
 
@@ -209,6 +224,16 @@ public class BankManagerTests extends BaseTest {
 
         assertTrue(alertMessage.contains("Account created successfully with account Number :"),
                 "Alert message should indicate successful account creation.");
+
+        // The in-page query sees the new account without typing into the search box
+        String accountNumber = alertMessage.substring(alertMessage.lastIndexOf(':') + 1).trim();
+        CustomersPage customersPage = new BankManagerLoginPage(driver, wait).clickCustomers();
+        List<Map<String, String>> withAccount = customersPage.findCustomers(
+                CustomerQuery.all().withNamePrefix(customerFirstName).withAccount(true));
+        assertEquals(1, withAccount.size(), "Exactly one customer with this name should hold an account.");
+        assertEquals(accountNumber, withAccount.get(0).get("Account Number"), "Query should return the new account number.");
+        assertEquals(customerFirstName, customersPage.getCustomerDetailsByAccount(accountNumber).get("First Name"),
+                "Account number lookup should find the customer it was opened for.");
     }
 
     @Test
@@ -232,6 +257,14 @@ public class BankManagerTests extends BaseTest {
         assertTrue(customersPage.isCustomerPresent(searchFirstName + " " + searchLastName),
                 "Searched customer should be present after search.");
         assertEquals(1, customersPage.getCustomerCount(), "Only one customer should be displayed after search."); // Corrected method call
+
+        // Same customer through the in-page query, by name prefix and post code, in one round trip
+        List<Map<String, String>> matches = customersPage.findCustomers(
+                CustomerQuery.all().withNamePrefix(searchFirstName).withPostCode(searchPostCode));
+        assertEquals(1, matches.size(), "Query by name prefix and post code should find only the new customer.");
+        assertEquals(searchLastName, matches.get(0).get("Last Name"), "Query should return the matching customer's details.");
+        assertTrue(customersPage.findCustomers(CustomerQuery.all().withNamePrefix(searchFirstName).withPostCode("NO-SUCH")).isEmpty(),
+                "Query with a post code no customer has should find nothing.");
     }
 
     @Test
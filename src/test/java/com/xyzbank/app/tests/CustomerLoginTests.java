@@ -1,14 +1,14 @@
 package com.xyzbank.app.tests;
 
 import com.xyzbank.app.base.BaseTest;
+import com.xyzbank.app.model.CustomerFixture;
 import com.xyzbank.app.pages.AccountPage;
-import com.xyzbank.app.pages.AddCustomerPage;
-import com.xyzbank.app.pages.BankManagerLoginPage;
 import com.xyzbank.app.pages.CustomerLoginPage;
 import com.xyzbank.app.pages.HomePage;
-import com.xyzbank.app.pages.OpenAccountPage;
 import com.xyzbank.app.pages.TransactionsPage;
 import com.xyzbank.app.utils.PropertiesLoader;
+import com.xyzbank.app.utils.StorageSnapshot;
+import com.xyzbank.app.utils.TestDataSeeder;
 
 import io.qameta.allure.*;
 import org.junit.jupiter.api.BeforeAll;
@@ -24,6 +24,8 @@ import java.util.Map;
 @Feature("Customer Login and Account Management")
 public class CustomerLoginTests extends BaseTest {
 
+    private static final String SEEDED_STATE = "CustomerLoginTests.seeded";
+
     private String testCustomerFirstName;
     private String testCustomerLastName;
     private String testCustomerFullName;
@@ -48,20 +50,9 @@ public class CustomerLoginTests extends BaseTest {
 
        //    ("Ensure test customer exists in the system")
     private void ensureTestCustomerExists() {
-        HomePage homePage = new HomePage(driver, wait);
-        BankManagerLoginPage bankManagerPage = homePage.clickBankManagerLogin();
-        AddCustomerPage addCustomerPage = bankManagerPage.clickAddCustomer();
-
-        // Try to add the customer (will handle if already exists)
-        addCustomerPage.addCustomer(testCustomerFirstName, testCustomerLastName, testCustomerPostCode);
-
-        // Create an account for the customer
-        OpenAccountPage openAccountPage = bankManagerPage.clickOpenAccount();
-        openAccountPage.openAccount(testCustomerFullName, "Dollar");
-
-        // Navigate back home
-        homePage = new HomePage(driver, wait);
-        driver.get(PropertiesLoader.getConfigProperty("base.url"));
+        // Seeded once per run (one storage script, UI fallback), then every test restores that exact storage
+        StorageSnapshot.restoreOrCapture(driver, SEEDED_STATE, () -> new TestDataSeeder(driver, wait).seed(
+                new CustomerFixture(testCustomerFirstName, testCustomerLastName, testCustomerPostCode, List.of("Dollar"))));
     }
 
     @Test
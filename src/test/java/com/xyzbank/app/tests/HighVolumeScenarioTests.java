@@ -0,0 +1,79 @@
+package com.xyzbank.app.tests;
+
+import com.xyzbank.app.base.BaseTest;
+import com.xyzbank.app.model.CustomerFixture;
+import com.xyzbank.app.pages.AddCustomerPage;
+import com.xyzbank.app.pages.BankManagerLoginPage;
+import com.xyzbank.app.pages.HomePage;
+import com.xyzbank.app.pages.OpenAccountPage;
+import com.xyzbank.app.utils.PropertiesLoader;
+import com.xyzbank.app.utils.ScenarioGenerator;
+import com.xyzbank.app.utils.TestDataSeeder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Add-customer and open-account paths driven by generated scenarios.
+ * Volume is set with -Dscenario.count (default 3) and -Dscenario.offset, the data with -Dscenario.seed;
+ * the bulk test opens one account per currency for each of those customers.
+ * Not part of the default suite, since every run adds data to the target app; run with:
+ * mvn -Pvolume test -Dtest=HighVolumeScenarioTests (best with -Dapp.target=local)
+ */
+@Tag("volume")
+public class HighVolumeScenarioTests extends BaseTest {
+
+    // Consumed lazily by JUnit, one scenario per invocation
+    static Stream<CustomerFixture> generatedCustomers() {
+        long offset = Long.parseLong(PropertiesLoader.getConfigProperty("scenario.offset", "0"));
+        long count = Long.parseLong(PropertiesLoader.getConfigProperty("scenario.count", "3"));
+        return ScenarioGenerator.fromConfig().stream(offset, count);
+    }
+
+    @ParameterizedTest(name = "{index}: {0}")
+    @MethodSource("generatedCustomers")
+    @DisplayName("Add generated customer and open an account")
+    void addCustomerAndOpenAccount(CustomerFixture customer) {
+        HomePage homePage = new HomePage(driver, wait);
+        BankManagerLoginPage bankManagerLoginPage = homePage.clickBankManagerLogin();
+
+        AddCustomerPage addCustomerPage = bankManagerLoginPage.clickAddCustomer();
+        String addAlert = addCustomerPage.addCustomer(customer.firstName(), customer.lastName(), customer.postCode());
+        assertTrue(addAlert.contains("Customer added successfully with customer id :"),
+                "Generated customer should be added, got: " + addAlert);
+
+        OpenAccountPage openAccountPage = bankManagerLoginPage.clickOpenAccount();
+        String accountAlert = openAccountPage.openAccount(customer.fullName(), customer.currencies().get(0));
+        assertTrue(accountAlert.contains("Account created successfully with account Number :"),
+                "Account should be opened for the generated customer, got: " + accountAlert);
+    }
+
+    @Test
+    @DisplayName("Provision accounts in bulk for every generated customer and currency")
+    void provisionAccountsInBulk() {
+        // Customers go in through storage; the accounts go through the open account form in batches
+        List<CustomerFixture> customers = generatedCustomers()
+                .map(customer -> new CustomerFixture(customer.firstName(), customer.lastName(), customer.postCode(), List.of()))
+                .toList();
+        new TestDataSeeder(driver, wait).seed(customers);
+
+        OpenAccountPage openAccountPage = new HomePage(driver, wait).clickBankManagerLogin().clickOpenAccount();
+        OpenAccountPage.BulkOpenResult result = openAccountPage.openAccounts(customers.stream()
+                .flatMap(customer -> ScenarioGenerator.CURRENCIES.stream()
+                        .map(currency -> new OpenAccountPage.AccountRequest(customer.fullName(), currency))));
+
+        assertEquals(List.of(), result.failures(), "Every account request should succeed");
+        assertEquals(customers.size() * ScenarioGenerator.CURRENCIES.size(), result.accountNumbers().size());
+        assertEquals(result.accountNumbers().size(), Set.copyOf(result.accountNumbers()).size(),
+                "Account numbers should be unique");
+    }
+}
@@ -0,0 +1,50 @@
+package com.xyzbank.app.utils;
+
+import com.xyzbank.app.model.CustomerFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScenarioGeneratorTests {
+
+    @Test
+    @DisplayName("Same seed and index always give the same scenario")
+    void reproducible() {
+        List<CustomerFixture> first = new ScenarioGenerator(7).stream(1_000, 50).toList();
+        List<CustomerFixture> second = new ScenarioGenerator(7).stream(1_000, 50).toList();
+        assertEquals(first, second);
+        assertEquals(first.get(3), new ScenarioGenerator(7).scenario(1_003));
+        assertNotEquals(first, new ScenarioGenerator(8).stream(1_000, 50).toList());
+    }
+
+    @Test
+    @DisplayName("Full names are unique across a large range")
+    void uniqueNames() {
+        Set<String> names = new HashSet<>();
+        new ScenarioGenerator(42).stream(200_000).forEach(customer ->
+                assertTrue(names.add(customer.fullName()), "Duplicate " + customer.fullName()));
+    }
+
+    @Test
+    @DisplayName("Scenarios use valid app values")
+    void validValues() {
+        new ScenarioGenerator(42).stream(1_000).forEach(customer -> {
+            assertTrue(customer.firstName().matches("[A-Z][a-z]{11}"), customer.firstName());
+            assertTrue(customer.lastName().matches("[A-Z][a-z]{11}"), customer.lastName());
+            assertTrue(customer.postCode().matches("E\\d{3}[A-Z]{2}"), customer.postCode());
+            assertEquals(1, customer.currencies().size());
+            assertTrue(ScenarioGenerator.CURRENCIES.contains(customer.currencies().get(0)));
+        });
+    }
+
+    @Test
+    @DisplayName("Streaming far beyond memory size stays lazy")
+    void lazyStream() {
+        assertEquals(5, new ScenarioGenerator(1).stream(Long.MAX_VALUE / 2, 1_000_000_000_000L).limit(5).count());
+    }
+}